@@ -1,6 +1,7 @@
 package com.example;
 
 import com.example.service.AuthService;
+import com.example.service.PasswordHashingService;
 import com.example.service.PrioriteService;
 import com.example.service.CategorieService;
 import lombok.RequiredArgsConstructor;
@@ -122,7 +123,7 @@ public class TicketManagementApplication {
 
                 log.info("👤 Création de l'utilisateur administrateur par défaut...");
                 try {
-                    authService.createUser("admin", "admin123", true);
+                    PasswordHashingService.await(authService.createUser("admin", "admin123", true));
                     log.info("✅ Utilisateur admin créé (pseudo: admin, mot de passe: admin123)");
                     log.warn("⚠️  ATTENTION: Changez le mot de passe de l'admin en production !");
                 } catch (RuntimeException e) {
@@ -135,7 +136,7 @@ public class TicketManagementApplication {
 
                 log.info("👤 Création d'un utilisateur de test...");
                 try {
-                    authService.createUser("user", "user123", false);
+                    PasswordHashingService.await(authService.createUser("user", "user123", false));
                     log.info("✅ Utilisateur de test créé (pseudo: user, mot de passe: user123)");
                 } catch (RuntimeException e) {
                     if (e.getMessage().contains("existe déjà")) {
@@ -0,0 +1,55 @@
+package com.example.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Formats binaires des réponses de l'API
+ *
+ * Les clients qui envoient Accept: application/cbor ou
+ * Accept: application/x-jackson-smile reçoivent la même réponse qu'en JSON,
+ * encodée en CBOR ou en Smile : charges plus petites, encodage et décodage
+ * moins coûteux. Les mappers partent de la configuration Jackson de
+ * l'application (spring.jackson.*, inclusion NON_NULL, vues exclusives) et
+ * les projections @JsonView des contrôleurs s'appliquent à l'identique.
+ *
+ * Seule différence avec le JSON : les dates sont écrites sous forme de
+ * tableaux numériques ([2024, 1, 1, 12, 0]) plutôt que de chaînes formatées.
+ * Sans ces en-têtes, les réponses restent en JSON.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * Convertisseur CBOR (application/cbor)
+     *
+     * @param builder le constructeur d'ObjectMapper configuré par Spring Boot
+     * @return le convertisseur
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(builder.factory(new CBORFactory())));
+    }
+
+    /**
+     * Convertisseur Smile (application/x-jackson-smile)
+     *
+     * @param builder le constructeur d'ObjectMapper configuré par Spring Boot
+     * @return le convertisseur
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(builder.factory(new SmileFactory())));
+    }
+
+    private static ObjectMapper binaryObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration du cache des données de référence (priorités et catégories)
+ * 
+ * Les caches sont bornés (Caffeine) et déclarés au démarrage afin que leurs
+ * statistiques de hits/miss soient publiées par l'actuator (métrique
+ * cache.gets). Le gestionnaire est transactionnel : les invalidations ne sont
+ * appliquées qu'après le commit de la transaction qui modifie les données.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRIORITES_CACHE = "priorites";
+    public static final String CATEGORIES_CACHE = "categories";
+
+    /**
+     * Gestionnaire de cache Caffeine limité aux caches de référence
+     * 
+     * @param specification la spécification Caffeine (taille maximale, expiration...)
+     * @return le gestionnaire de cache
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${ticket.cache.reference.spec}") String specification) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(PRIORITES_CACHE, CATEGORIES_CACHE);
+        caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(specification));
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
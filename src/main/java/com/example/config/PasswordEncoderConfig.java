@@ -0,0 +1,119 @@
+package com.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Configuration du hachage des mots de passe
+ *
+ * Les hashes sont préfixés par l'algorithme utilisé ({bcrypt}, {pbkdf2}) :
+ * l'algorithme des nouveaux hashes (ticket.auth.password.encoding-id) peut
+ * changer sans invalider les anciens. Les hashes BCrypt sans préfixe (données
+ * de démonstration, comptes créés avant cette configuration) restent
+ * acceptés.
+ *
+ * Le coût BCrypt est fixé par ticket.auth.password.bcrypt.strength ou, si la
+ * propriété est vide, calibré au démarrage pour qu'un hachage prenne environ
+ * ticket.auth.password.target-latency ms sur la machine, sans descendre sous
+ * ticket.auth.password.bcrypt.min-strength. À la connexion, AuthService
+ * rehache les mots de passe dont le hash utilise un autre algorithme ou un
+ * coût inférieur.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    /**
+     * Encodeur de mot de passe délégant selon le préfixe du hash
+     *
+     * @param encodingId     l'algorithme des nouveaux hashes
+     * @param bcryptStrength le coût BCrypt imposé (null pour le calibrer)
+     * @param targetLatency  la durée visée d'un hachage BCrypt calibré, en ms
+     * @param minStrength    le coût BCrypt minimal après calibrage
+     * @return l'encodeur de mot de passe
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${ticket.auth.password.encoding-id}") String encodingId,
+            @Value("${ticket.auth.password.bcrypt.strength:#{null}}") Integer bcryptStrength,
+            @Value("${ticket.auth.password.target-latency}") long targetLatency,
+            @Value("${ticket.auth.password.bcrypt.min-strength}") int minStrength) {
+        int strength;
+        if (bcryptStrength != null) {
+            strength = bcryptStrength;
+            log.info("Hachage des mots de passe: {}, coût BCrypt {} (configuré)", encodingId, strength);
+        } else {
+            strength = calibrateBCryptStrength(targetLatency, minStrength, PasswordEncoderConfig::measureBCrypt);
+            log.info("Hachage des mots de passe: {}, coût BCrypt {} (calibré pour {} ms)", encodingId, strength,
+                    targetLatency);
+        }
+        return createPasswordEncoder(encodingId, strength);
+    }
+
+    /**
+     * Construit l'encodeur délégant
+     *
+     * @param encodingId     l'algorithme des nouveaux hashes
+     * @param bcryptStrength le coût BCrypt des nouveaux hashes
+     * @return l'encodeur de mot de passe
+     */
+    public static PasswordEncoder createPasswordEncoder(String encodingId, int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, new BCryptPasswordEncoder(bcryptStrength),
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("Algorithme de hachage inconnu: " + encodingId
+                    + " (valeurs possibles: " + String.join(", ", encoders.keySet()) + ")");
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        // Hashes BCrypt historiques, sans préfixe
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
+    }
+
+    /**
+     * Choisit le coût BCrypt le plus élevé dont le hachage ne dépasse pas la
+     * durée visée (chaque point de coût double la durée)
+     *
+     * @param targetLatency la durée visée, en ms
+     * @param minStrength   le coût minimal, retenu même s'il dépasse la durée
+     * @param measure       la durée mesurée (ns) d'un hachage au coût donné
+     * @return le coût BCrypt
+     */
+    static int calibrateBCryptStrength(long targetLatency, int minStrength, IntToLongFunction measure) {
+        long targetNanos = targetLatency * 1_000_000L;
+        long nanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            nanos = Math.min(nanos, measure.applyAsLong(minStrength));
+        }
+
+        int strength = minStrength;
+        while (strength < MAX_BCRYPT_STRENGTH && nanos * 2 <= targetNanos) {
+            strength++;
+            nanos *= 2;
+        }
+        return strength;
+    }
+
+    private static long measureBCrypt(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return System.nanoTime() - start;
+    }
+}
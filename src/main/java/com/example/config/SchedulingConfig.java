@@ -0,0 +1,18 @@
+package com.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active les tâches planifiées : réconciliations des statistiques et de la
+ * file des tickets non résolus, recalcul des compteurs des priorités et
+ * catégories, maintien des connexions du flux SSE et relais de l'outbox
+ *
+ * Le planificateur a un thread par tâche (spring.task.scheduling.pool.size) :
+ * une tâche bloquée, comme le relais qui attend un webhook lent, n'en retarde
+ * aucune autre.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
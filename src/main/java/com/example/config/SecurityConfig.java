@@ -1,15 +1,16 @@
 package com.example.config;
 
 import com.example.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -38,9 +39,23 @@ public class SecurityConfig {
 
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+                // Requête sans token valide : 401 (403 reste réservé aux droits insuffisants)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
                 .authorizeHttpRequests(authz -> authz
+                        // Les réponses en flux (StreamingResponseBody) se terminent par un dispatch
+                        // asynchrone : l'accès a déjà été contrôlé lors de la requête initiale
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // Réponses d'erreur (400 de validation...) transmises à /error : l'accès a
+                        // déjà été contrôlé lors de la requête initiale
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
+                        // Le token est vérifié par le contrôleur, qui répond 401 s'il est invalide
+                        .requestMatchers(HttpMethod.GET, "/api/auth/verify").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/unresolved").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/public").permitAll()
 
@@ -49,13 +64,21 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/tickets").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/{id}").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/tickets").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/tickets/bulk").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/tickets/{id}").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/user/{userId}").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets/user/{userId}/resolved", "/api/tickets/user/{userId}/involved").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets/resolved", "/api/tickets/recently-resolved", "/api/tickets/created").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets/priorite/{prioriteId}", "/api/tickets/categorie/{categorieId}").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/tickets/search").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets/export").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets/events").authenticated()
 
                         .requestMatchers(HttpMethod.GET, "/api/priorites/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").authenticated()
 
+                        .requestMatchers(HttpMethod.PUT, "/api/tickets/bulk/resolve", "/api/tickets/bulk/reopen").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/tickets/bulk").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/tickets/{id}/resolve").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/tickets/{id}/reopen").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/tickets/{id}").hasAuthority("ADMIN")
@@ -71,6 +94,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/utilisateurs/**").hasAuthority("ADMIN")
                         .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
 
+                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
+
                         .anyRequest().authenticated())
 
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -78,14 +104,6 @@ public class SecurityConfig {
         return http.build();
     }
 
-    /**
-     * Encodeur de mot de passe BCrypt
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
      * Configuration CORS
      */
@@ -109,7 +127,8 @@ public class SecurityConfig {
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
                 "Content-Type",
-                "X-Total-Count"));
+                "X-Total-Count",
+                "X-Next-Cursor"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
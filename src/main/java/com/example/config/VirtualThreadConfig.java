@@ -0,0 +1,51 @@
+package com.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration du mode threads virtuels (Java 21, spring.threads.virtual.enabled=true)
+ * 
+ * Spring Boot exécute alors les requêtes MVC, les méthodes @Async et les tâches
+ * planifiées sur des threads virtuels. Le nombre de requêtes traitées en même
+ * temps n'étant plus borné par le pool de threads de Tomcat, la source de
+ * données est enveloppée dans une ConcurrencyLimitedDataSource dimensionnée
+ * sur le pool HikariCP (ticket.datasource.max-concurrency).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Enveloppe la source de données de l'application dans un limiteur de
+     * concurrence
+     * 
+     * @param environment l'environnement (lu avant la création des autres beans)
+     * @return le post-processeur de la source de données
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int maxConcurrency = environment.getRequiredProperty("ticket.datasource.max-concurrency", Integer.class);
+        long acquireTimeout = environment.getRequiredProperty("ticket.datasource.acquire-timeout", Long.class);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("Threads virtuels: accès simultanés à la base limités à {} (source de données {})",
+                            maxConcurrency, beanName);
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
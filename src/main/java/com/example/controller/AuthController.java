@@ -2,8 +2,8 @@ package com.example.controller;
 
 import com.example.dto.AuthResponseDto;
 import com.example.dto.LoginRequestDto;
-import com.example.model.Utilisateur;
 import com.example.service.AuthService;
+import com.example.service.PasswordHashingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +11,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -23,6 +26,11 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -32,6 +40,11 @@ import java.util.Map;
 @Tag(name = "Authentification", description = "API pour la gestion de l'authentification des utilisateurs")
 public class AuthController {
 
+    /**
+     * Délai (secondes) suggéré au client quand le pool de hachage est saturé
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final AuthService authService;
 
     /**
@@ -59,34 +72,40 @@ public class AuthController {
             responseCode = "401",
             description = "Identifiants incorrects",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Service d'authentification saturé, réessayer après le délai Retry-After",
+            content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequest) {
-        try {
-            log.info("Tentative de connexion pour l'utilisateur: {}", loginRequest.getPseudo());
-            
-            AuthResponseDto response = authService.login(loginRequest);
-            
-            log.info("Connexion réussie pour l'utilisateur: {}", loginRequest.getPseudo());
-            return ResponseEntity.ok(response);
-            
-        } catch (RuntimeException e) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequestDto loginRequest) {
+        log.info("Tentative de connexion pour l'utilisateur: {}", loginRequest.getPseudo());
+
+        // Thread de requête libéré pendant la vérification du mot de passe
+        return start(() -> authService.login(loginRequest)).handle((response, throwable) -> {
+            if (throwable == null) {
+                log.info("Connexion réussie pour l'utilisateur: {}", loginRequest.getPseudo());
+                return ResponseEntity.ok(response);
+            }
+
+            RuntimeException e = PasswordHashingService.unwrap(throwable);
+            if (e instanceof RejectedExecutionException) {
+                log.warn("Connexion refusée pour l'utilisateur {}: pool de hachage saturé", loginRequest.getPseudo());
+                return saturatedResponse("Authentification échouée", e);
+            }
+            if (e instanceof CompletionException) {
+                log.error("Erreur lors de la connexion: ", e.getCause());
+                return internalErrorResponse();
+            }
             log.warn("Échec de connexion pour l'utilisateur {}: {}", loginRequest.getPseudo(), e.getMessage());
-            
+
             Map<String, String> error = new HashMap<>();
             error.put("error", "Authentification échouée");
             error.put("message", e.getMessage());
-            
+
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        } catch (Exception e) {
-            log.error("Erreur lors de la connexion: ", e);
-            
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Erreur interne du serveur");
-            error.put("message", "Une erreur inattendue s'est produite");
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
-        }
+        });
     }
 
     /**
@@ -116,9 +135,14 @@ public class AuthController {
             responseCode = "409",
             description = "Un utilisateur avec ce pseudo existe déjà",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Service d'authentification saturé, réessayer après le délai Retry-After",
+            content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<?> register(
+    public CompletableFuture<ResponseEntity<?>> register(
             @Parameter(description = "Pseudo de l'utilisateur", required = true)
             @RequestParam @NotBlank(message = "Le pseudo est obligatoire") 
             @Size(min = 3, max = 50, message = "Le pseudo doit contenir entre 3 et 50 caractères") String pseudo,
@@ -129,42 +153,94 @@ public class AuthController {
             
             @Parameter(description = "Si l'utilisateur doit être administrateur", required = false)
             @RequestParam(defaultValue = "false") Boolean admin) {
-        
-        try {
-            log.info("Tentative d'enregistrement pour l'utilisateur: {}", pseudo);
-            
-            Utilisateur utilisateur = authService.createUser(pseudo, password, admin);
-            String token = authService.generateToken(utilisateur);
-            
-            AuthResponseDto response = new AuthResponseDto(
-                token, 
-                utilisateur.getPseudo(), 
-                utilisateur.isAdmin(),
-                "Compte créé avec succès"
-            );
-            
-            log.info("Utilisateur créé avec succès: {} (Admin: {})", pseudo, admin);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-            
-        } catch (RuntimeException e) {
+
+        log.info("Tentative d'enregistrement pour l'utilisateur: {}", pseudo);
+
+        // Thread de requête libéré pendant le hachage du mot de passe
+        return start(() -> authService.createUser(pseudo, password, admin)).handle((utilisateur, throwable) -> {
+            if (throwable == null) {
+                String token = authService.generateToken(utilisateur);
+
+                AuthResponseDto response = new AuthResponseDto(
+                    token,
+                    utilisateur.getPseudo(),
+                    utilisateur.isAdmin(),
+                    "Compte créé avec succès"
+                );
+
+                log.info("Utilisateur créé avec succès: {} (Admin: {})", pseudo, admin);
+                return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            }
+
+            RuntimeException e = PasswordHashingService.unwrap(throwable);
+            if (e instanceof RejectedExecutionException) {
+                log.warn("Création de compte refusée pour {}: pool de hachage saturé", pseudo);
+                return saturatedResponse("Création de compte échouée", e);
+            }
+            if (e instanceof CompletionException) {
+                log.error("Erreur lors de la création de compte: ", e.getCause());
+                return internalErrorResponse();
+            }
             log.warn("Échec de création de compte pour {}: {}", pseudo, e.getMessage());
-            
+
             Map<String, String> error = new HashMap<>();
             error.put("error", "Création de compte échouée");
             error.put("message", e.getMessage());
-            
-            HttpStatus status = e.getMessage().contains("existe déjà") ? 
+
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("existe déjà") ?
                 HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
-            
+
             return ResponseEntity.status(status).body(error);
-        } catch (Exception e) {
-            log.error("Erreur lors de la création de compte: ", e);
-            
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Erreur interne du serveur");
-            error.put("message", "Une erreur inattendue s'est produite");
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        });
+    }
+
+    /**
+     * Paramètres de requête invalides (pseudo ou mot de passe trop court...)
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<?> handleConstraintViolation(ConstraintViolationException e) {
+        log.warn("Paramètres invalides: {}", e.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Données invalides");
+        error.put("message", e.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", ")));
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Réponse 503 renvoyée immédiatement quand la file du pool de hachage est
+     * pleine
+     */
+    private static ResponseEntity<?> saturatedResponse(String errorTitle, RuntimeException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", errorTitle);
+        error.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(error);
+    }
+
+    private static ResponseEntity<?> internalErrorResponse() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Erreur interne du serveur");
+        error.put("message", "Une erreur inattendue s'est produite");
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
+    /**
+     * Lance une opération asynchrone : une erreur levée avant le premier
+     * calcul (lecture de l'utilisateur) est rendue comme un échec du résultat
+     */
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -1,7 +1,9 @@
 package com.example.controller;
 
 import com.example.model.Categorie;
+import com.example.service.AggregateVersionService;
 import com.example.service.CategorieService;
+import com.example.service.TicketStatsService;
 import com.example.view.CategorieBasicView;
 import com.example.view.CategorieDetailView;
 import com.fasterxml.jackson.annotation.JsonView;
@@ -16,10 +18,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,22 +39,32 @@ import java.util.Optional;
 public class CategorieController {
 
     private final CategorieService categorieService;
+    private final TicketStatsService ticketStatsService;
+    private final ConditionalGet conditionalGet;
 
     /**
      * Récupère toutes les catégories
+     * 
+     * Requête conditionnelle : 304 sans lecture des catégories si l'ETag
+     * (If-None-Match) ou la date (If-Modified-Since) du client sont à jour
      */
     @GetMapping
     @JsonView(CategorieBasicView.class)
     @Operation(summary = "Liste toutes les catégories", description = "Récupère la liste de toutes les catégories disponibles", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des catégories récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Liste des catégories inchangée"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Categorie>> getAllCategories() {
+    public ResponseEntity<List<Categorie>> getAllCategories(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES)) {
+                // 304 et en-têtes ETag / Last-Modified déjà positionnés
+                return null;
+            }
             log.info("Récupération de toutes les catégories");
             List<Categorie> categories = categorieService.getAllCategories();
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des catégories: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -65,12 +79,18 @@ public class CategorieController {
     @Operation(summary = "Récupère une catégorie par ID", description = "Récupère les détails d'une catégorie spécifique", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Catégorie trouvée"),
+            @ApiResponse(responseCode = "304", description = "Catégorie et tickets non modifiés depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "404", description = "Catégorie non trouvée"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
     public ResponseEntity<?> getCategorieById(
-            @Parameter(description = "ID de la catégorie", required = true) @PathVariable @Min(1) Integer id) {
+            @Parameter(description = "ID de la catégorie", required = true) @PathVariable @Min(1) Integer id,
+            WebRequest webRequest) {
         try {
+            // Version lue avant la catégorie et ses tickets, comparée une fois son existence vérifiée
+            ConditionalGet.Validator validator = conditionalGet.validator(webRequest,
+                    AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS);
             Optional<Categorie> categorieOpt = categorieService.getCategorieById(id);
 
             if (categorieOpt.isEmpty()) {
@@ -80,7 +100,10 @@ public class CategorieController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
             }
 
-            return ResponseEntity.ok(categorieOpt.get());
+            if (conditionalGet.checkNotModified(webRequest, validator)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categorieOpt.get());
         } catch (Exception e) {
             log.error("Erreur lors de la récupération de la catégorie {}: ", id, e);
             Map<String, String> error = new HashMap<>();
@@ -218,13 +241,18 @@ public class CategorieController {
     @Operation(summary = "Statistiques des catégories", description = "Récupère les catégories avec le nombre de tickets associés", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Statistiques récupérées"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Object[]>> getCategorieStats() {
+    public ResponseEntity<List<Object[]>> getCategorieStats(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des statistiques des catégories");
-            List<Object[]> stats = categorieService.getCategorieStats();
-            return ResponseEntity.ok(stats);
+            List<Object[]> stats = ticketStatsService.getCategorieStats();
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(stats);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des statistiques des catégories: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -239,14 +267,19 @@ public class CategorieController {
     @Operation(summary = "Recherche des catégories", description = "Recherche des catégories par nom (recherche partielle insensible à la casse)", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Résultats de recherche récupérés"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie modifiée depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
     public ResponseEntity<List<Categorie>> searchCategories(
-            @Parameter(description = "Terme de recherche", required = false) @RequestParam(required = false) String keyword) {
+            @Parameter(description = "Terme de recherche", required = false) @RequestParam(required = false) String keyword,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES)) {
+                return null;
+            }
             log.info("Recherche de catégories avec le terme: {}", keyword);
             List<Categorie> categories = categorieService.searchCategories(keyword);
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la recherche de catégories: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -261,13 +294,18 @@ public class CategorieController {
     @Operation(summary = "Catégories avec tickets non résolus", description = "Récupère les catégories qui ont des tickets non résolus", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Categorie>> getCategoriesWithUnresolvedTickets() {
+    public ResponseEntity<List<Categorie>> getCategoriesWithUnresolvedTickets(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des catégories avec tickets non résolus");
             List<Categorie> categories = categorieService.getCategoriesWithUnresolvedTickets();
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des catégories avec tickets non résolus: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -282,14 +320,20 @@ public class CategorieController {
     @Operation(summary = "Catégories populaires", description = "Récupère les catégories les plus utilisées (avec au moins un certain nombre de tickets)", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
     public ResponseEntity<List<Categorie>> getPopularCategories(
-            @Parameter(description = "Nombre minimum de tickets", required = false) @RequestParam(defaultValue = "1") @Min(1) int minTickets) {
+            @Parameter(description = "Nombre minimum de tickets", required = false) @RequestParam(defaultValue = "1") @Min(1) int minTickets,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des catégories populaires (min {} tickets)", minTickets);
             List<Categorie> categories = categorieService.getPopularCategories(minTickets);
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des catégories populaires: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -304,13 +348,18 @@ public class CategorieController {
     @Operation(summary = "Catégories triées par popularité", description = "Récupère toutes les catégories triées par nombre de tickets décroissant", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Categorie>> getCategoriesByPopularity() {
+    public ResponseEntity<List<Categorie>> getCategoriesByPopularity(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des catégories triées par popularité");
             List<Categorie> categories = categorieService.getCategoriesByPopularity();
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des catégories par popularité: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -325,15 +374,21 @@ public class CategorieController {
     @Operation(summary = "Catégories utilisées par un utilisateur", description = "Récupère les catégories utilisées dans les tickets soumis par un utilisateur spécifique", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucune catégorie ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé")
     })
     public ResponseEntity<List<Categorie>> getCategoriesUsedByUser(
-            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId) {
+            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.CATEGORIES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des catégories utilisées par l'utilisateur {}", userId);
             List<Categorie> categories = categorieService.getCategoriesUsedByUser(userId);
-            return ResponseEntity.ok(categories);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(categories);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des catégories de l'utilisateur {}: ", userId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
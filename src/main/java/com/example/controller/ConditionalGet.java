@@ -0,0 +1,113 @@
+package com.example.controller;
+
+import com.example.service.AggregateVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requêtes conditionnelles (If-None-Match, If-Modified-Since) sur les
+ * lectures des contrôleurs
+ *
+ * L'ETag est dérivé de la version des agrégats lus (AggregateVersionService)
+ * et du format négocié : une même liste encodée en JSON, en CBOR ou en Smile
+ * (BinaryFormatConfig) a trois ETags distincts. Les réponses portent
+ * Vary: Accept, pour qu'un cache partagé ne serve pas un format à un client
+ * qui en a demandé un autre.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+
+    /**
+     * Formats produits par l'API, dans l'ordre de préférence des
+     * convertisseurs (JSON par défaut)
+     */
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    private final AggregateVersionService aggregateVersionService;
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    /**
+     * Compare la version courante des agrégats à celle du client
+     *
+     * @param webRequest la requête
+     * @param aggregates les agrégats dont dépend la réponse
+     * @return vrai si le client est à jour : le 304 et ses en-têtes sont déjà
+     *         positionnés, le contrôleur retourne null sans lire les données
+     */
+    public boolean checkNotModified(WebRequest webRequest, AggregateVersionService.Aggregate... aggregates) {
+        return checkNotModified(webRequest, validator(webRequest, aggregates));
+    }
+
+    /**
+     * Lit la version courante des agrégats sans encore la comparer à celle du
+     * client, pour les lectures qui doivent d'abord vérifier l'existence de la
+     * ressource ou les droits de l'utilisateur : la version est lue avant les
+     * données, et une erreur (404, 403) ne porte pas d'ETag
+     *
+     * @param webRequest la requête
+     * @param aggregates les agrégats dont dépend la réponse
+     * @return l'ETag et la date de dernière modification de la réponse
+     */
+    public Validator validator(WebRequest webRequest, AggregateVersionService.Aggregate... aggregates) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        AggregateVersionService.Version version = aggregateVersionService.current(aggregates);
+        String eTag = version.eTag().substring(0, version.eTag().length() - 1) + "-"
+                + representation((NativeWebRequest) webRequest).getSubtype() + "\"";
+        return new Validator(eTag, version.lastModified());
+    }
+
+    /**
+     * Compare une version lue par {@link #validator} à celle du client
+     *
+     * @param webRequest la requête
+     * @param validator la version lue avant les données
+     * @return vrai si le client est à jour (304 déjà positionné)
+     */
+    public boolean checkNotModified(WebRequest webRequest, Validator validator) {
+        return webRequest.checkNotModified(validator.eTag(), validator.lastModified());
+    }
+
+    /**
+     * Format qui sera produit pour cette requête, choisi comme le font les
+     * convertisseurs : premier type accepté (le plus précis d'abord) compatible
+     * avec un format de l'API
+     */
+    private MediaType representation(NativeWebRequest webRequest) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(webRequest));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType acceptedType : accepted) {
+            for (MediaType produced : REPRESENTATIONS) {
+                if (acceptedType.isCompatibleWith(produced)) {
+                    return produced;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * ETag et date de dernière modification d'une réponse
+     */
+    public record Validator(String eTag, long lastModified) {
+    }
+}
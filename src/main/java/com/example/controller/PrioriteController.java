@@ -1,7 +1,9 @@
 package com.example.controller;
 
 import com.example.model.Priorite;
+import com.example.service.AggregateVersionService;
 import com.example.service.PrioriteService;
+import com.example.service.TicketStatsService;
 import com.example.view.PrioriteBasicView;
 import com.example.view.PrioriteDetailView;
 import com.fasterxml.jackson.annotation.JsonView;
@@ -16,10 +18,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,22 +39,32 @@ import java.util.Optional;
 public class PrioriteController {
 
     private final PrioriteService prioriteService;
+    private final TicketStatsService ticketStatsService;
+    private final ConditionalGet conditionalGet;
 
     /**
      * Récupère toutes les priorités
+     * 
+     * Requête conditionnelle : 304 sans lecture des priorités si l'ETag
+     * (If-None-Match) ou la date (If-Modified-Since) du client sont à jour
      */
     @GetMapping
     @JsonView(PrioriteBasicView.class)
     @Operation(summary = "Liste toutes les priorités", description = "Récupère la liste de toutes les priorités disponibles", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des priorités récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Liste des priorités inchangée"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Priorite>> getAllPriorites() {
+    public ResponseEntity<List<Priorite>> getAllPriorites(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.PRIORITES)) {
+                // 304 et en-têtes ETag / Last-Modified déjà positionnés
+                return null;
+            }
             log.info("Récupération de toutes les priorités");
             List<Priorite> priorites = prioriteService.getAllPriorites();
-            return ResponseEntity.ok(priorites);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(priorites);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des priorités: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -65,12 +79,18 @@ public class PrioriteController {
     @Operation(summary = "Récupère une priorité par ID", description = "Récupère les détails d'une priorité spécifique", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Priorité trouvée"),
+            @ApiResponse(responseCode = "304", description = "Priorité et tickets non modifiés depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "404", description = "Priorité non trouvée"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
     public ResponseEntity<?> getPrioriteById(
-            @Parameter(description = "ID de la priorité", required = true) @PathVariable @Min(1) Integer id) {
+            @Parameter(description = "ID de la priorité", required = true) @PathVariable @Min(1) Integer id,
+            WebRequest webRequest) {
         try {
+            // Version lue avant la priorité et ses tickets, comparée une fois son existence vérifiée
+            ConditionalGet.Validator validator = conditionalGet.validator(webRequest,
+                    AggregateVersionService.Aggregate.PRIORITES,
+                    AggregateVersionService.Aggregate.TICKETS);
             Optional<Priorite> prioriteOpt = prioriteService.getPrioriteById(id);
 
             if (prioriteOpt.isEmpty()) {
@@ -80,7 +100,10 @@ public class PrioriteController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
             }
 
-            return ResponseEntity.ok(prioriteOpt.get());
+            if (conditionalGet.checkNotModified(webRequest, validator)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(prioriteOpt.get());
         } catch (Exception e) {
             log.error("Erreur lors de la récupération de la priorité {}: ", id, e);
             Map<String, String> error = new HashMap<>();
@@ -218,13 +241,18 @@ public class PrioriteController {
     @Operation(summary = "Statistiques des priorités", description = "Récupère les priorités avec le nombre de tickets associés", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Statistiques récupérées"),
+            @ApiResponse(responseCode = "304", description = "Aucune priorité ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Object[]>> getPrioriteStats() {
+    public ResponseEntity<List<Object[]>> getPrioriteStats(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.PRIORITES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des statistiques des priorités");
-            List<Object[]> stats = prioriteService.getPrioriteStats();
-            return ResponseEntity.ok(stats);
+            List<Object[]> stats = ticketStatsService.getPrioriteStats();
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(stats);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des statistiques des priorités: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -239,14 +267,19 @@ public class PrioriteController {
     @Operation(summary = "Recherche des priorités", description = "Recherche des priorités par nom (recherche partielle insensible à la casse)", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Résultats de recherche récupérés"),
+            @ApiResponse(responseCode = "304", description = "Aucune priorité modifiée depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
     public ResponseEntity<List<Priorite>> searchPriorites(
-            @Parameter(description = "Terme de recherche", required = false) @RequestParam(required = false) String keyword) {
+            @Parameter(description = "Terme de recherche", required = false) @RequestParam(required = false) String keyword,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.PRIORITES)) {
+                return null;
+            }
             log.info("Recherche de priorités avec le terme: {}", keyword);
             List<Priorite> priorites = prioriteService.searchPriorites(keyword);
-            return ResponseEntity.ok(priorites);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(priorites);
         } catch (Exception e) {
             log.error("Erreur lors de la recherche de priorités: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -261,13 +294,18 @@ public class PrioriteController {
     @Operation(summary = "Priorités avec tickets non résolus", description = "Récupère les priorités qui ont des tickets non résolus", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucune priorité ni aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Priorite>> getPrioritesWithUnresolvedTickets() {
+    public ResponseEntity<List<Priorite>> getPrioritesWithUnresolvedTickets(WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.PRIORITES,
+                    AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération des priorités avec tickets non résolus");
             List<Priorite> priorites = prioriteService.getPrioritesWithUnresolvedTickets();
-            return ResponseEntity.ok(priorites);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(priorites);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des priorités avec tickets non résolus: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -1,9 +1,18 @@
 package com.example.controller;
 
+import com.example.dto.AuthenticatedUser;
+import com.example.dto.BulkItemResultDto;
 import com.example.dto.CreateTicketDto;
+import com.example.dto.TicketBasicDto;
+import com.example.dto.TicketPageDto;
 import com.example.filter.JwtAuthenticationFilter;
 import com.example.model.Ticket;
+import com.example.service.AggregateVersionService;
+import com.example.service.TicketBulkService;
+import com.example.service.TicketEventStream;
+import com.example.service.TicketExportService;
 import com.example.service.TicketService;
+import com.example.service.TicketStatsService;
 import com.example.view.TicketBasicView;
 import com.example.view.TicketDetailView;
 import com.fasterxml.jackson.annotation.JsonView;
@@ -17,17 +26,29 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Contrôleur pour la gestion des tickets
@@ -40,23 +61,43 @@ import java.util.Optional;
 @Tag(name = "Tickets", description = "API pour la gestion des tickets de support")
 public class TicketController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page";
+    private static final String EVENTS_RETRY_AFTER_SECONDS = "5";
+
     private final TicketService ticketService;
+    private final TicketExportService ticketExportService;
+    private final TicketBulkService ticketBulkService;
+    private final TicketStatsService ticketStatsService;
+    private final ConditionalGet conditionalGet;
+    private final TicketEventStream ticketEventStream;
 
     /**
      * Récupère tous les tickets (pour utilisateurs connectés)
      */
     @GetMapping
     @JsonView(TicketBasicView.class)
-    @Operation(summary = "Liste tous les tickets", description = "Récupère la liste de tous les tickets. Accessible aux utilisateurs connectés (admin ou non-admin)", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Liste tous les tickets", description = "Récupère une page de tickets, du plus récent au plus ancien. Accessible aux utilisateurs connectés (admin ou non-admin)", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Curseur de pagination invalide"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Ticket>> getAllTickets() {
+    public ResponseEntity<?> getAllTickets(
+            @Parameter(description = "Curseur de pagination renvoyé dans l'en-tête X-Next-Cursor", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Récupération de tous les tickets");
-            List<Ticket> tickets = ticketService.getAllTickets();
-            return ResponseEntity.ok(tickets);
+            TicketPageDto page = ticketService.getTicketsPage(cursor, size);
+            return pageResponse(page, CacheControl.noCache().cachePrivate());
+        } catch (IllegalArgumentException e) {
+            return invalidPaginationResponse(e);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des tickets: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -70,13 +111,25 @@ public class TicketController {
     @JsonView(TicketBasicView.class)
     @Operation(summary = "Liste les tickets non résolus", description = "Récupère la liste des tickets non résolus. Accessible à tous, même aux utilisateurs non connectés")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Liste des tickets non résolus récupérée avec succès")
+            @ApiResponse(responseCode = "200", description = "Liste des tickets non résolus récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Curseur de pagination invalide")
     })
-    public ResponseEntity<List<Ticket>> getUnresolvedTickets() {
+    public ResponseEntity<?> getUnresolvedTickets(
+            @Parameter(description = "Curseur de pagination renvoyé dans l'en-tête X-Next-Cursor", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            WebRequest webRequest) {
         try {
+            // Version lue avant les tickets : une modification concurrente rend l'ETag périmé, jamais la page
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+                // 304 et en-têtes ETag / Last-Modified déjà positionnés
+                return null;
+            }
             log.info("Récupération des tickets non résolus (accès public)");
-            List<Ticket> tickets = ticketService.getUnresolvedTickets();
-            return ResponseEntity.ok(tickets);
+            TicketPageDto page = ticketService.getUnresolvedTicketsPage(cursor, size);
+            return pageResponse(page, CacheControl.noCache());
+        } catch (IllegalArgumentException e) {
+            return invalidPaginationResponse(e);
         } catch (Exception e) {
             log.error("Erreur lors de la récupération des tickets non résolus: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -90,10 +143,14 @@ public class TicketController {
     @JsonView(TicketBasicView.class)
     @Operation(summary = "Liste publique des tickets non résolus", description = "Alias pour /unresolved - Récupère la liste des tickets non résolus accessible publiquement")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Liste des tickets non résolus récupérée avec succès")
+            @ApiResponse(responseCode = "200", description = "Liste des tickets non résolus récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Curseur de pagination invalide")
     })
-    public ResponseEntity<List<Ticket>> getPublicTickets() {
-        return getUnresolvedTickets();
+    public ResponseEntity<?> getPublicTickets(
+            @Parameter(description = "Curseur de pagination renvoyé dans l'en-tête X-Next-Cursor", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            WebRequest webRequest) {
+        return getUnresolvedTickets(cursor, size, webRequest);
     }
 
     /**
@@ -104,13 +161,18 @@ public class TicketController {
     @Operation(summary = "Récupère un ticket par ID", description = "Récupère les détails d'un ticket spécifique", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ticket trouvé"),
+            @ApiResponse(responseCode = "304", description = "Ticket non modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "404", description = "Ticket non trouvé"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "403", description = "Accès refusé")
     })
     public ResponseEntity<?> getTicketById(
-            @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id) {
+            @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id,
+            WebRequest webRequest) {
         try {
+            // Version lue avant le ticket, comparée une fois l'accès vérifié
+            ConditionalGet.Validator validator = conditionalGet.validator(webRequest,
+                    AggregateVersionService.Aggregate.TICKETS);
             Optional<Ticket> ticketOpt = ticketService.getTicketById(id);
 
             if (ticketOpt.isEmpty()) {
@@ -130,7 +192,10 @@ public class TicketController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
             }
 
-            return ResponseEntity.ok(ticketOpt.get());
+            if (conditionalGet.checkNotModified(webRequest, validator)) {
+                return null;
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(ticketOpt.get());
         } catch (Exception e) {
             log.error("Erreur lors de la récupération du ticket {}: ", id, e);
             Map<String, String> error = new HashMap<>();
@@ -174,6 +239,89 @@ public class TicketController {
         }
     }
 
+    /**
+     * Crée un lot de tickets
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Crée un lot de tickets", description = "Crée plusieurs tickets en une requête (taille limitée par ticket.bulk.max-size). Chaque ticket reçoit son propre résultat : ID créé ou message d'erreur", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lot traité, résultat par ticket"),
+            @ApiResponse(responseCode = "400", description = "Lot vide ou trop grand"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<?> createTickets(@RequestBody List<CreateTicketDto> createTicketDtos) {
+        try {
+            Integer userId = getCurrentUserId();
+            log.info("Création d'un lot de tickets par l'utilisateur {}", userId);
+
+            List<BulkItemResultDto> results = ticketBulkService.createTickets(createTicketDtos, userId);
+            return ResponseEntity.ok(results);
+
+        } catch (RuntimeException e) {
+            log.warn("Erreur lors de la création du lot de tickets: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Création échouée");
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (Exception e) {
+            log.error("Erreur lors de la création du lot de tickets: ", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Erreur interne du serveur");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Marque un lot de tickets comme résolus (admin seulement)
+     */
+    @PutMapping("/bulk/resolve")
+    @Operation(summary = "Résout un lot de tickets", description = "Marque comme résolus les tickets dont les IDs sont fournis. Les tickets inexistants ou déjà résolus sont ignorés et signalés dans le résultat. Accessible uniquement aux administrateurs", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lot traité, résultat par ticket"),
+            @ApiResponse(responseCode = "400", description = "Lot vide ou trop grand"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "403", description = "Droits administrateur requis")
+    })
+    public ResponseEntity<?> resolveTickets(@RequestBody List<Integer> ticketIds) {
+        AuthenticatedUser user = getCurrentUser();
+        log.info("Résolution d'un lot de {} ticket(s) par l'admin {}", ticketIds.size(), user.getId());
+        return bulkResponse("Résolution échouée", () -> ticketBulkService.resolveTickets(ticketIds, user));
+    }
+
+    /**
+     * Rouvre un lot de tickets résolus (admin seulement)
+     */
+    @PutMapping("/bulk/reopen")
+    @Operation(summary = "Rouvre un lot de tickets", description = "Rouvre les tickets résolus dont les IDs sont fournis. Les tickets inexistants ou non résolus sont ignorés et signalés dans le résultat. Accessible uniquement aux administrateurs", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lot traité, résultat par ticket"),
+            @ApiResponse(responseCode = "400", description = "Lot vide ou trop grand"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "403", description = "Droits administrateur requis")
+    })
+    public ResponseEntity<?> reopenTickets(@RequestBody List<Integer> ticketIds) {
+        AuthenticatedUser user = getCurrentUser();
+        log.info("Réouverture d'un lot de {} ticket(s) par l'admin {}", ticketIds.size(), user.getId());
+        return bulkResponse("Réouverture échouée", () -> ticketBulkService.reopenTickets(ticketIds, user));
+    }
+
+    /**
+     * Supprime un lot de tickets (admin seulement)
+     */
+    @DeleteMapping("/bulk")
+    @Operation(summary = "Supprime un lot de tickets", description = "Supprime les tickets dont les IDs sont fournis. Les tickets inexistants sont signalés dans le résultat. Accessible uniquement aux administrateurs", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lot traité, résultat par ticket"),
+            @ApiResponse(responseCode = "400", description = "Lot vide ou trop grand"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "403", description = "Droits administrateur requis")
+    })
+    public ResponseEntity<?> deleteTickets(@RequestBody List<Integer> ticketIds) {
+        AuthenticatedUser user = getCurrentUser();
+        log.info("Suppression d'un lot de {} ticket(s) par l'admin {}", ticketIds.size(), user.getId());
+        return bulkResponse("Suppression échouée", () -> ticketBulkService.deleteTickets(ticketIds, user));
+    }
+
     /**
      * Met à jour un ticket existant
      */
@@ -185,20 +333,27 @@ public class TicketController {
             @ApiResponse(responseCode = "400", description = "Données invalides"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "403", description = "Accès refusé"),
-            @ApiResponse(responseCode = "404", description = "Ticket non trouvé")
+            @ApiResponse(responseCode = "404", description = "Ticket non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Ticket modifié par un autre utilisateur entre-temps")
     })
     public ResponseEntity<?> updateTicket(
             @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id,
             @Valid @RequestBody CreateTicketDto updateDto) {
         try {
-            Integer userId = getCurrentUserId();
-            log.info("Mise à jour du ticket {} par l'utilisateur {}", id, userId);
+            AuthenticatedUser user = getCurrentUser();
+            log.info("Mise à jour du ticket {} par l'utilisateur {}", id, user.getId());
 
-            Ticket ticket = ticketService.updateTicket(id, updateDto, userId);
+            Ticket ticket = ticketService.updateTicket(id, updateDto, user);
 
             log.info("Ticket {} mis à jour avec succès", id);
             return ResponseEntity.ok(ticket);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Conflit de modification concurrente du ticket {}", id);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Mise à jour échouée");
+            error.put("message", "Le ticket a été modifié par un autre utilisateur, veuillez le recharger");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (RuntimeException e) {
             log.warn("Erreur lors de la mise à jour du ticket {}: {}", id, e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -225,20 +380,20 @@ public class TicketController {
     @Operation(summary = "Marque un ticket comme résolu", description = "Marque un ticket comme résolu. Accessible uniquement aux administrateurs", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ticket marqué comme résolu"),
-            @ApiResponse(responseCode = "400", description = "Ticket déjà résolu"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "403", description = "Droits administrateur requis"),
-            @ApiResponse(responseCode = "404", description = "Ticket non trouvé")
+            @ApiResponse(responseCode = "404", description = "Ticket non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Ticket déjà résolu (éventuellement par un autre administrateur au même moment)")
     })
     public ResponseEntity<?> resolveTicket(
             @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id) {
         try {
-            Integer userId = getCurrentUserId();
-            log.info("Résolution du ticket {} par l'admin {}", id, userId);
+            AuthenticatedUser user = getCurrentUser();
+            log.info("Résolution du ticket {} par l'admin {}", id, user.getId());
 
-            Ticket ticket = ticketService.resolveTicket(id, userId);
+            Ticket ticket = ticketService.resolveTicket(id, user);
 
-            log.info("Ticket {} marqué comme résolu par l'admin {}", id, userId);
+            log.info("Ticket {} marqué comme résolu par l'admin {}", id, user.getId());
             return ResponseEntity.ok(ticket);
 
         } catch (RuntimeException e) {
@@ -248,7 +403,8 @@ public class TicketController {
             error.put("message", e.getMessage());
 
             HttpStatus status = e.getMessage().contains("non trouvé") ? HttpStatus.NOT_FOUND
-                    : e.getMessage().contains("administrateur") ? HttpStatus.FORBIDDEN : HttpStatus.BAD_REQUEST;
+                    : e.getMessage().contains("administrateur") ? HttpStatus.FORBIDDEN
+                    : e.getMessage().contains("déjà résolu") ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
 
             return ResponseEntity.status(status).body(error);
         } catch (Exception e) {
@@ -270,19 +426,26 @@ public class TicketController {
             @ApiResponse(responseCode = "400", description = "Ticket non résolu"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "403", description = "Droits administrateur requis"),
-            @ApiResponse(responseCode = "404", description = "Ticket non trouvé")
+            @ApiResponse(responseCode = "404", description = "Ticket non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Ticket modifié par un autre utilisateur entre-temps")
     })
     public ResponseEntity<?> reopenTicket(
             @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id) {
         try {
-            Integer userId = getCurrentUserId();
-            log.info("Réouverture du ticket {} par l'admin {}", id, userId);
+            AuthenticatedUser user = getCurrentUser();
+            log.info("Réouverture du ticket {} par l'admin {}", id, user.getId());
 
-            Ticket ticket = ticketService.reopenTicket(id, userId);
+            Ticket ticket = ticketService.reopenTicket(id, user);
 
-            log.info("Ticket {} rouvert par l'admin {}", id, userId);
+            log.info("Ticket {} rouvert par l'admin {}", id, user.getId());
             return ResponseEntity.ok(ticket);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Conflit de modification concurrente du ticket {}", id);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Réouverture échouée");
+            error.put("message", "Le ticket a été modifié par un autre utilisateur, veuillez le recharger");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (RuntimeException e) {
             log.warn("Erreur lors de la réouverture du ticket {}: {}", id, e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -315,12 +478,12 @@ public class TicketController {
     public ResponseEntity<?> deleteTicket(
             @Parameter(description = "ID du ticket", required = true) @PathVariable @Min(1) Integer id) {
         try {
-            Integer userId = getCurrentUserId();
-            log.info("Suppression du ticket {} par l'admin {}", id, userId);
+            AuthenticatedUser user = getCurrentUser();
+            log.info("Suppression du ticket {} par l'admin {}", id, user.getId());
 
-            ticketService.deleteTicket(id, userId);
+            ticketService.deleteTicket(id, user);
 
-            log.info("Ticket {} supprimé par l'admin {}", id, userId);
+            log.info("Ticket {} supprimé par l'admin {}", id, user.getId());
             return ResponseEntity.noContent().build();
 
         } catch (RuntimeException e) {
@@ -349,27 +512,32 @@ public class TicketController {
     @Operation(summary = "Récupère les tickets d'un utilisateur", description = "Récupère tous les tickets soumis par un utilisateur spécifique", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
             @ApiResponse(responseCode = "401", description = "Non authentifié"),
             @ApiResponse(responseCode = "403", description = "Accès refusé"),
             @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé")
     })
     public ResponseEntity<?> getTicketsByUser(
-            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId) {
+            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId,
+            @Parameter(description = "Curseur de pagination renvoyé dans l'en-tête X-Next-Cursor", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            WebRequest webRequest) {
         try {
             Integer currentUserId = getCurrentUserId();
-            boolean isAdmin = getCurrentUserIsAdmin();
 
-            if (!isAdmin && !currentUserId.equals(userId)) {
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Accès refusé");
-                error.put("message", "Vous ne pouvez voir que vos propres tickets");
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            if (!canViewTicketsOf(userId)) {
+                return userTicketsForbiddenResponse();
+            }
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
             }
 
             log.info("Récupération des tickets de l'utilisateur {} par {}", userId, currentUserId);
-            List<Ticket> tickets = ticketService.getTicketsByUser(userId);
+            TicketPageDto page = ticketService.getTicketsByUserPage(userId, cursor, size);
 
-            return ResponseEntity.ok(tickets);
+            return pageResponse(page, CacheControl.noCache().cachePrivate());
+        } catch (IllegalArgumentException e) {
+            return invalidPaginationResponse(e);
         } catch (RuntimeException e) {
             log.warn("Erreur lors de la récupération des tickets de l'utilisateur {}: {}", userId, e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -386,6 +554,202 @@ public class TicketController {
         }
     }
 
+    /**
+     * Récupère les tickets résolus
+     */
+    @GetMapping("/resolved")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Liste les tickets résolus", description = "Récupère une page de tickets résolus, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets résolus récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<?> getResolvedTickets(
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+            return null;
+        }
+        log.info("Récupération des tickets résolus (page {})", page);
+        return sliceResponse("tickets résolus", () -> ticketService.getResolvedTickets(page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * Récupère les tickets résolus récemment
+     */
+    @GetMapping("/recently-resolved")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Liste les tickets résolus récemment", description = "Récupère une page de tickets résolus dans les derniers jours, du plus récemment résolu au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets résolus récemment récupérée avec succès"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<?> getRecentlyResolvedTickets(
+            @Parameter(description = "Nombre de jours à considérer", required = false) @RequestParam(defaultValue = "7") @Min(0) int days,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort) {
+        log.info("Récupération des tickets résolus depuis {} jour(s) (page {})", days, page);
+        return sliceResponse("tickets résolus récemment",
+                () -> ticketService.getRecentlyResolvedTickets(days, page, size, sort));
+    }
+
+    /**
+     * Récupère les tickets créés dans une période
+     */
+    @GetMapping("/created")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Liste les tickets créés dans une période", description = "Récupère une page de tickets créés entre deux dates, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Période, paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<?> getTicketsCreatedBetween(
+            @Parameter(description = "Date de début (ISO 8601, ex. 2024-01-31T00:00:00)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Date de fin (ISO 8601, ex. 2024-01-31T23:59:59)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+            return null;
+        }
+        log.info("Récupération des tickets créés entre {} et {} (page {})", from, to, page);
+        return sliceResponse("tickets de la période",
+                () -> ticketService.getTicketsCreatedBetween(from, to, page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * Récupère les tickets d'une priorité
+     */
+    @GetMapping("/priorite/{prioriteId}")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Liste les tickets d'une priorité", description = "Récupère une page de tickets d'une priorité, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "404", description = "Priorité non trouvée")
+    })
+    public ResponseEntity<?> getTicketsByPriorite(
+            @Parameter(description = "ID de la priorité", required = true) @PathVariable @Min(1) Integer prioriteId,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS,
+                AggregateVersionService.Aggregate.PRIORITES)) {
+            return null;
+        }
+        log.info("Récupération des tickets de la priorité {} (page {})", prioriteId, page);
+        return sliceResponse("tickets de la priorité " + prioriteId,
+                () -> ticketService.getTicketsByPriorite(prioriteId, page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * Récupère les tickets d'une catégorie
+     */
+    @GetMapping("/categorie/{categorieId}")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Liste les tickets d'une catégorie", description = "Récupère une page de tickets d'une catégorie, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "404", description = "Catégorie non trouvée")
+    })
+    public ResponseEntity<?> getTicketsByCategorie(
+            @Parameter(description = "ID de la catégorie", required = true) @PathVariable @Min(1) Integer categorieId,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS,
+                AggregateVersionService.Aggregate.CATEGORIES)) {
+            return null;
+        }
+        log.info("Récupération des tickets de la catégorie {} (page {})", categorieId, page);
+        return sliceResponse("tickets de la catégorie " + categorieId,
+                () -> ticketService.getTicketsByCategorie(categorieId, page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * Récupère les tickets résolus par un utilisateur
+     */
+    @GetMapping("/user/{userId}/resolved")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Récupère les tickets résolus par un utilisateur", description = "Récupère une page des tickets résolus par un utilisateur, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "403", description = "Accès refusé"),
+            @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé")
+    })
+    public ResponseEntity<?> getTicketsResolvedByUser(
+            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (!canViewTicketsOf(userId)) {
+            return userTicketsForbiddenResponse();
+        }
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+            return null;
+        }
+        log.info("Récupération des tickets résolus par l'utilisateur {} (page {})", userId, page);
+        return sliceResponse("tickets résolus par l'utilisateur " + userId,
+                () -> ticketService.getTicketsResolvedByUser(userId, page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * Récupère les tickets soumis ou résolus par un utilisateur
+     */
+    @GetMapping("/user/{userId}/involved")
+    @JsonView(TicketBasicView.class)
+    @Operation(summary = "Récupère les tickets liés à un utilisateur", description = "Récupère une page des tickets soumis ou résolus par un utilisateur, du plus récent au plus ancien par défaut", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des tickets récupérée"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de pagination ou de tri invalides"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "403", description = "Accès refusé"),
+            @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé")
+    })
+    public ResponseEntity<?> getTicketsInvolvingUser(
+            @Parameter(description = "ID de l'utilisateur", required = true) @PathVariable @Min(1) Integer userId,
+            @Parameter(description = "Numéro de page (à partir de 0), renvoyé dans l'en-tête X-Next-Page", required = false) @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            @Parameter(description = "Tri : id, dateCreation ou dateResolution, suivi de ,asc ou ,desc", required = false) @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        if (!canViewTicketsOf(userId)) {
+            return userTicketsForbiddenResponse();
+        }
+        if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+            return null;
+        }
+        log.info("Récupération des tickets liés à l'utilisateur {} (page {})", userId, page);
+        return sliceResponse("tickets de l'utilisateur " + userId,
+                () -> ticketService.getTicketsInvolvingUser(userId, page, size, sort),
+                CacheControl.noCache().cachePrivate());
+    }
+
     /**
      * Recherche des tickets par mot-clé
      */
@@ -394,20 +758,83 @@ public class TicketController {
     @Operation(summary = "Recherche des tickets", description = "Recherche des tickets par mot-clé dans le titre ou la description", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Résultats de recherche récupérés"),
+            @ApiResponse(responseCode = "304", description = "Aucun ticket modifié depuis l'ETag ou la date fournis"),
+            @ApiResponse(responseCode = "400", description = "Curseur de pagination invalide"),
             @ApiResponse(responseCode = "401", description = "Non authentifié")
     })
-    public ResponseEntity<List<Ticket>> searchTickets(
-            @Parameter(description = "Mot-clé de recherche", required = false) @RequestParam(required = false) String keyword) {
+    public ResponseEntity<?> searchTickets(
+            @Parameter(description = "Mot-clé de recherche", required = false) @RequestParam(required = false) String keyword,
+            @Parameter(description = "Curseur de pagination renvoyé dans l'en-tête X-Next-Cursor", required = false) @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tickets par page (maximum 200)", required = false) @RequestParam(defaultValue = "50") @Min(1) int size,
+            WebRequest webRequest) {
         try {
+            if (conditionalGet.checkNotModified(webRequest, AggregateVersionService.Aggregate.TICKETS)) {
+                return null;
+            }
             log.info("Recherche de tickets avec le mot-clé: {}", keyword);
-            List<Ticket> tickets = ticketService.searchTickets(keyword);
-            return ResponseEntity.ok(tickets);
+            TicketPageDto page = ticketService.searchTicketsPage(keyword, cursor, size);
+            return pageResponse(page, CacheControl.noCache().cachePrivate());
+        } catch (IllegalArgumentException e) {
+            return invalidPaginationResponse(e);
         } catch (Exception e) {
             log.error("Erreur lors de la recherche de tickets: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Exporte tous les tickets au format NDJSON
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export des tickets", description = "Exporte tous les tickets au format NDJSON (un ticket JSON par ligne), en flux continu et sans charger l'ensemble des tickets en mémoire", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours de transmission"),
+            @ApiResponse(responseCode = "400", description = "Vue inconnue"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @Parameter(description = "Niveau de détail des tickets exportés (basic ou detail)", required = false) @RequestParam(defaultValue = "basic") String view) {
+        Class<?> jsonView;
+        if ("basic".equalsIgnoreCase(view)) {
+            jsonView = TicketBasicView.class;
+        } else if ("detail".equalsIgnoreCase(view)) {
+            jsonView = TicketDetailView.class;
+        } else {
+            log.warn("Export des tickets refusé: vue inconnue '{}'", view);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        log.info("Export NDJSON des tickets (vue {}) par l'utilisateur {}", view, getCurrentUserId());
+        StreamingResponseBody body = outputStream -> ticketExportService.exportTickets(outputStream, jsonView);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Flux des modifications de tickets (Server-Sent Events)
+     */
+    @GetMapping("/events")
+    @Operation(summary = "Flux des événements de tickets", description = "Pousse en Server-Sent Events (text/event-stream) la création, la modification, la résolution, la réouverture et la suppression des tickets. Avec l'en-tête Last-Event-ID, les événements manqués sont renvoyés ; un événement resync indique qu'il faut relire les tickets", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Flux ouvert"),
+            @ApiResponse(responseCode = "401", description = "Non authentifié"),
+            @ApiResponse(responseCode = "503", description = "Trop de connexions au flux")
+    })
+    public ResponseEntity<SseEmitter> streamTicketEvents(
+            @Parameter(description = "ID du dernier événement reçu, pour reprendre le flux", required = false) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            SseEmitter emitter = ticketEventStream.subscribe(lastEventId);
+            log.debug("Connexion au flux des événements de l'utilisateur {} ({} client(s))", getCurrentUserId(),
+                    ticketEventStream.getSubscriberCount());
+            return ResponseEntity.ok(emitter);
+        } catch (RejectedExecutionException e) {
+            // Le type de retour (flux) ne permet pas le corps d'erreur JSON habituel
+            log.warn("Connexion au flux des événements refusée: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, EVENTS_RETRY_AFTER_SECONDS)
+                    .build();
+        }
+    }
+
     /**
      * Récupère les statistiques des tickets
      */
@@ -420,10 +847,10 @@ public class TicketController {
     public ResponseEntity<Map<String, Object>> getTicketStats() {
         try {
             Map<String, Object> stats = new HashMap<>();
-            stats.put("total", ticketService.getTotalTicketCount());
-            stats.put("unresolved", ticketService.getUnresolvedTicketCount());
-            stats.put("resolved", ticketService.getResolvedTicketCount());
-            stats.put("byPriorite", ticketService.getTicketStatsByPriorite());
+            stats.put("total", ticketStatsService.getTotalTicketCount());
+            stats.put("unresolved", ticketStatsService.getUnresolvedTicketCount());
+            stats.put("resolved", ticketStatsService.getResolvedTicketCount());
+            stats.put("byPriorite", ticketStatsService.getTicketStatsByPriorite());
 
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -432,10 +859,113 @@ public class TicketController {
         }
     }
 
+    /**
+     * Exécute une opération par lots et construit la réponse : résultat par
+     * élément, ou erreur si le lot est refusé dans son ensemble
+     */
+    private ResponseEntity<?> bulkResponse(String failure, Supplier<List<BulkItemResultDto>> operation) {
+        try {
+            return ResponseEntity.ok(operation.get());
+        } catch (RuntimeException e) {
+            log.warn("Erreur lors du traitement d'un lot de tickets: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", failure);
+            error.put("message", e.getMessage());
+
+            HttpStatus status = e.getMessage().contains("administrateur") ? HttpStatus.FORBIDDEN
+                    : HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status).body(error);
+        } catch (Exception e) {
+            log.error("Erreur lors du traitement d'un lot de tickets: ", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Erreur interne du serveur");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Exécute la lecture d'une tranche de tickets et construit la réponse :
+     * l'existence d'une page suivante est signalée par l'en-tête X-Next-Page
+     */
+    private ResponseEntity<?> sliceResponse(String subject, Supplier<Slice<Ticket>> query) {
+        return sliceResponse(subject, query, null);
+    }
+
+    private ResponseEntity<?> sliceResponse(String subject, Supplier<Slice<Ticket>> query, CacheControl cacheControl) {
+        try {
+            Slice<Ticket> slice = query.get();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (cacheControl != null) {
+                response.cacheControl(cacheControl);
+            }
+            if (slice.hasNext()) {
+                response.header(NEXT_PAGE_HEADER, String.valueOf(slice.getNumber() + 1));
+            }
+            return response.body(slice.getContent());
+        } catch (IllegalArgumentException e) {
+            return invalidPaginationResponse(e);
+        } catch (RuntimeException e) {
+            log.warn("Erreur lors de la récupération des {}: {}", subject, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Récupération échouée");
+            error.put("message", e.getMessage());
+
+            HttpStatus status = e.getMessage().contains("non trouvé") ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(error);
+        } catch (Exception e) {
+            log.error("Erreur lors de la récupération des {}: ", subject, e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Erreur interne du serveur");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    /**
+     * Construit la réponse d'une page de tickets : le total est exposé dans
+     * l'en-tête X-Total-Count et le curseur de la page suivante dans X-Next-Cursor
+     */
+    private ResponseEntity<List<TicketBasicDto>> pageResponse(TicketPageDto page, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalCount()))
+                .cacheControl(cacheControl);
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTickets());
+    }
+
+    private ResponseEntity<Map<String, String>> invalidPaginationResponse(IllegalArgumentException e) {
+        log.warn("Paramètres de pagination rejetés: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Requête invalide");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    private ResponseEntity<Map<String, String>> userTicketsForbiddenResponse() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Accès refusé");
+        error.put("message", "Vous ne pouvez voir que vos propres tickets");
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    }
+
+    /**
+     * Un utilisateur ne voit que ses propres listes de tickets, un admin voit
+     * celles de tous les utilisateurs
+     */
+    private boolean canViewTicketsOf(Integer userId) {
+        return getCurrentUserIsAdmin() || userId.equals(getCurrentUserId());
+    }
+
     /**
      * Méthodes utilitaires pour récupérer les informations de l'utilisateur
-     * connecté
+     * connecté (lues dans le token JWT vérifié, sans accès à la base)
      */
+    private AuthenticatedUser getCurrentUser() {
+        return new AuthenticatedUser(getCurrentUserId(), getCurrentUserIsAdmin());
+    }
+
     private Integer getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null
@@ -2,10 +2,12 @@ package com.example.dao;
 
 import com.example.model.Categorie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,35 +46,51 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      * Trouve les catégories qui ont des tickets associés
      * @return la liste des catégories ayant des tickets
      */
-    @Query("SELECT DISTINCT c FROM Categorie c WHERE SIZE(c.tickets) > 0")
+    @Query("SELECT c FROM Categorie c WHERE c.ticketCount > 0")
     List<Categorie> findCategoriesWithTickets();
     
     /**
      * Trouve les catégories qui n'ont aucun ticket associé
      * @return la liste des catégories sans tickets
      */
-    @Query("SELECT c FROM Categorie c WHERE SIZE(c.tickets) = 0")
+    @Query("SELECT c FROM Categorie c WHERE c.ticketCount = 0")
     List<Categorie> findCategoriesWithoutTickets();
     
+    /**
+     * Compte les catégories qui ont des tickets associés
+     * @return le nombre de catégories utilisées
+     */
+    @Query("SELECT COUNT(c) FROM Categorie c WHERE c.ticketCount > 0")
+    long countCategoriesWithTickets();
+    
+    /**
+     * Vérifie si une catégorie est utilisée par au moins un ticket
+     * (sous-requête EXISTS, arrêtée au premier ticket trouvé)
+     * @param id l'ID de la catégorie
+     * @return true si la catégorie est utilisée, false sinon
+     */
+    @Query("SELECT COUNT(c) > 0 FROM Categorie c WHERE c.id = :id AND c.tickets IS NOT EMPTY")
+    boolean isUsedByTickets(@Param("id") Integer id);
+    
     /**
      * Compte le nombre de tickets par catégorie
      * @return la liste des catégories avec le nombre de tickets associés
      */
-    @Query("SELECT c.nom, COUNT(t) FROM Categorie c LEFT JOIN c.tickets t GROUP BY c.id, c.nom ORDER BY COUNT(t) DESC")
+    @Query("SELECT c.nom, c.ticketCount FROM Categorie c ORDER BY c.ticketCount DESC")
     List<Object[]> getTicketCountByCategorie();
     
     /**
      * Trouve les catégories ayant des tickets non résolus
      * @return la liste des catégories avec des tickets non résolus
      */
-    @Query("SELECT DISTINCT c FROM Categorie c JOIN c.tickets t WHERE t.resolu = false")
+    @Query("SELECT c FROM Categorie c WHERE c.unresolvedTicketCount > 0")
     List<Categorie> findCategoriesWithUnresolvedTickets();
     
     /**
      * Compte le nombre de tickets non résolus par catégorie
      * @return la liste des catégories avec le nombre de tickets non résolus
      */
-    @Query("SELECT c.nom, COUNT(t) FROM Categorie c JOIN c.tickets t WHERE t.resolu = false GROUP BY c.id, c.nom ORDER BY COUNT(t) DESC")
+    @Query("SELECT c.nom, c.unresolvedTicketCount FROM Categorie c WHERE c.unresolvedTicketCount > 0 ORDER BY c.unresolvedTicketCount DESC")
     List<Object[]> getUnresolvedTicketCountByCategorie();
     
     /**
@@ -92,7 +110,7 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      * Trouve toutes les catégories triées par nombre de tickets (décroissant)
      * @return la liste des catégories triées par popularité
      */
-    @Query("SELECT c FROM Categorie c LEFT JOIN c.tickets t GROUP BY c.id ORDER BY COUNT(t) DESC")
+    @Query("SELECT c FROM Categorie c ORDER BY c.ticketCount DESC, c.nom ASC")
     List<Categorie> findAllOrderByTicketCountDesc();
     
     /**
@@ -100,7 +118,7 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      * @param minTickets le nombre minimum de tickets
      * @return la liste des catégories populaires
      */
-    @Query("SELECT c FROM Categorie c WHERE SIZE(c.tickets) >= :minTickets ORDER BY SIZE(c.tickets) DESC")
+    @Query("SELECT c FROM Categorie c WHERE c.ticketCount >= :minTickets ORDER BY c.ticketCount DESC, c.nom ASC")
     List<Categorie> findPopularCategories(@Param("minTickets") int minTickets);
     
     /**
@@ -110,4 +128,25 @@ public interface CategorieDao extends JpaRepository<Categorie, Integer> {
      */
     @Query("SELECT DISTINCT c FROM Categorie c JOIN c.tickets t WHERE t.soumetteur.id = :utilisateurId")
     List<Categorie> findCategoriesUsedByUser(@Param("utilisateurId") Integer utilisateurId);
-}
\ No newline at end of file
+    
+    /**
+     * Ajoute un écart aux compteurs de tickets de catégories (mise à jour
+     * relative : les modifications concurrentes ne s'écrasent pas)
+     * @param ids les IDs des catégories
+     * @param ticketDelta l'écart du nombre de tickets
+     * @param unresolvedDelta l'écart du nombre de tickets non résolus
+     * @return le nombre de catégories mises à jour
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.ticketCount = c.ticketCount + :ticketDelta, c.unresolvedTicketCount = c.unresolvedTicketCount + :unresolvedDelta WHERE c.id IN :ids")
+    int adjustTicketCounts(@Param("ids") Collection<Integer> ids, @Param("ticketDelta") long ticketDelta,
+            @Param("unresolvedDelta") long unresolvedDelta);
+    
+    /**
+     * Recalcule les compteurs de tickets de toutes les catégories depuis ticket_categorie
+     * @return le nombre de catégories mises à jour
+     */
+    @Modifying
+    @Query("UPDATE Categorie c SET c.ticketCount = (SELECT COUNT(t) FROM Ticket t JOIN t.categories tc WHERE tc.id = c.id), c.unresolvedTicketCount = (SELECT COUNT(t) FROM Ticket t JOIN t.categories tc WHERE tc.id = c.id AND t.resolu = false)")
+    int recomputeTicketCounts();
+}
@@ -2,7 +2,9 @@ package com.example.dao;
 
 import com.example.model.Priorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -48,7 +50,7 @@ public interface PrioriteDao extends JpaRepository<Priorite, Integer> {
      * 
      * @return la liste des priorités ayant des tickets
      */
-    @Query("SELECT DISTINCT p FROM Priorite p WHERE SIZE(p.tickets) > 0")
+    @Query("SELECT p FROM Priorite p WHERE p.ticketCount > 0")
     List<Priorite> findPrioritiesWithTickets();
 
     /**
@@ -56,15 +58,33 @@ public interface PrioriteDao extends JpaRepository<Priorite, Integer> {
      * 
      * @return la liste des priorités sans tickets
      */
-    @Query("SELECT p FROM Priorite p WHERE SIZE(p.tickets) = 0")
+    @Query("SELECT p FROM Priorite p WHERE p.ticketCount = 0")
     List<Priorite> findPrioritiesWithoutTickets();
 
+    /**
+     * Compte les priorités qui ont des tickets associés
+     * 
+     * @return le nombre de priorités utilisées
+     */
+    @Query("SELECT COUNT(p) FROM Priorite p WHERE p.ticketCount > 0")
+    long countPrioritiesWithTickets();
+
+    /**
+     * Vérifie si une priorité est utilisée par au moins un ticket
+     * (sous-requête EXISTS, arrêtée au premier ticket trouvé)
+     * 
+     * @param id l'ID de la priorité
+     * @return true si la priorité est utilisée, false sinon
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Priorite p WHERE p.id = :id AND p.tickets IS NOT EMPTY")
+    boolean isUsedByTickets(@Param("id") Integer id);
+
     /**
      * Compte le nombre de tickets par priorité
      * 
      * @return la liste des priorités avec le nombre de tickets associés
      */
-    @Query("SELECT p.nom, COUNT(t) FROM Priorite p LEFT JOIN p.tickets t GROUP BY p.id, p.nom ORDER BY COUNT(t) DESC")
+    @Query("SELECT p.nom, p.ticketCount FROM Priorite p ORDER BY p.ticketCount DESC")
     List<Object[]> getTicketCountByPriorite();
 
     /**
@@ -72,7 +92,7 @@ public interface PrioriteDao extends JpaRepository<Priorite, Integer> {
      * 
      * @return la liste des priorités avec des tickets non résolus
      */
-    @Query("SELECT DISTINCT p FROM Priorite p JOIN p.tickets t WHERE t.resolu = false")
+    @Query("SELECT p FROM Priorite p WHERE p.unresolvedTicketCount > 0")
     List<Priorite> findPrioritiesWithUnresolvedTickets();
 
     /**
@@ -80,7 +100,7 @@ public interface PrioriteDao extends JpaRepository<Priorite, Integer> {
      * 
      * @return la liste des priorités avec le nombre de tickets non résolus
      */
-    @Query("SELECT p.nom, COUNT(t) FROM Priorite p JOIN p.tickets t WHERE t.resolu = false GROUP BY p.id, p.nom ORDER BY COUNT(t) DESC")
+    @Query("SELECT p.nom, p.unresolvedTicketCount FROM Priorite p WHERE p.unresolvedTicketCount > 0 ORDER BY p.unresolvedTicketCount DESC")
     List<Object[]> getUnresolvedTicketCountByPriorite();
 
     /**
@@ -104,6 +124,30 @@ public interface PrioriteDao extends JpaRepository<Priorite, Integer> {
      * 
      * @return la liste des priorités triées par popularité
      */
-    @Query("SELECT p FROM Priorite p LEFT JOIN p.tickets t GROUP BY p.id ORDER BY COUNT(t) DESC")
+    @Query("SELECT p FROM Priorite p ORDER BY p.ticketCount DESC, p.nom ASC")
     List<Priorite> findAllOrderByTicketCountDesc();
-}
\ No newline at end of file
+
+    /**
+     * Ajoute un écart aux compteurs de tickets d'une priorité (mise à jour
+     * relative : les modifications concurrentes ne s'écrasent pas)
+     * 
+     * @param id              l'ID de la priorité
+     * @param ticketDelta     l'écart du nombre de tickets
+     * @param unresolvedDelta l'écart du nombre de tickets non résolus
+     * @return le nombre de priorités mises à jour
+     */
+    @Modifying
+    @Query("UPDATE Priorite p SET p.ticketCount = p.ticketCount + :ticketDelta, p.unresolvedTicketCount = p.unresolvedTicketCount + :unresolvedDelta WHERE p.id = :id")
+    int adjustTicketCounts(@Param("id") Integer id, @Param("ticketDelta") long ticketDelta,
+            @Param("unresolvedDelta") long unresolvedDelta);
+
+    /**
+     * Recalcule les compteurs de tickets de toutes les priorités depuis la
+     * table ticket
+     * 
+     * @return le nombre de priorités mises à jour
+     */
+    @Modifying
+    @Query("UPDATE Priorite p SET p.ticketCount = (SELECT COUNT(t) FROM Ticket t WHERE t.priorite.id = p.id), p.unresolvedTicketCount = (SELECT COUNT(t) FROM Ticket t WHERE t.priorite.id = p.id AND t.resolu = false)")
+    int recomputeTicketCounts();
+}
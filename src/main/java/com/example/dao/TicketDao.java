@@ -1,88 +1,200 @@
 package com.example.dao;
 
+import com.example.dto.TicketBasicDto;
 import com.example.model.Ticket;
 import com.example.model.Utilisateur;
 import com.example.model.Priorite;
 import com.example.model.Categorie;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.RepositoryDefinition;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Accès aux tickets
+ *
+ * Contrairement aux autres DAO, TicketDao n'étend pas JpaRepository : seules
+ * les méthodes CRUD déclarées ici en sont reprises (implémentées par Spring Data),
+ * sans findAll ni deleteAll, et toutes les listes de tickets sont bornées
+ * (Slice, Limit ou IDs). Aucun appel ne peut charger toute la table en mémoire.
+ */
 @Repository
-public interface TicketDao extends JpaRepository<Ticket, Integer> {
+@RepositoryDefinition(domainClass = Ticket.class, idClass = Integer.class)
+public interface TicketDao {
+    
+    /**
+     * Trouve un ticket par son ID avec les associations de TicketDetailView
+     * @param id l'ID du ticket
+     * @return le ticket s'il existe
+     */
+    @EntityGraph(Ticket.GRAPH_DETAIL)
+    Optional<Ticket> findById(Integer id);
+    
+    /**
+     * Trouve des tickets par leurs IDs
+     * @param ids les IDs des tickets
+     * @return les tickets existants
+     */
+    List<Ticket> findAllById(Iterable<Integer> ids);
+    
+    /**
+     * @param id l'ID du ticket
+     * @return vrai si le ticket existe
+     */
+    boolean existsById(Integer id);
     
     /**
-     * Trouve tous les tickets non résolus
-     * @return la liste des tickets non résolus
+     * @return le nombre total de tickets
      */
-    List<Ticket> findByResoluFalse();
+    long count();
     
     /**
-     * Trouve tous les tickets résolus
-     * @return la liste des tickets résolus
+     * Enregistre un ticket (création ou modification)
+     * @param ticket le ticket
+     * @return le ticket enregistré
      */
-    List<Ticket> findByResoluTrue();
+    <S extends Ticket> S save(S ticket);
     
     /**
-     * Trouve tous les tickets par statut de résolution
+     * Enregistre des tickets (insertions regroupées en lots JDBC)
+     * @param tickets les tickets
+     * @return les tickets enregistrés
+     */
+    <S extends Ticket> List<S> saveAll(Iterable<S> tickets);
+    
+    /**
+     * Enregistre des tickets puis synchronise la session avec la base
+     * @param tickets les tickets
+     * @return les tickets enregistrés
+     */
+    <S extends Ticket> List<S> saveAllAndFlush(Iterable<S> tickets);
+    
+    /**
+     * Supprime un ticket
+     * @param ticket le ticket
+     */
+    void delete(Ticket ticket);
+    
+    /**
+     * Supprime un ticket par son ID
+     * @param id l'ID du ticket
+     */
+    void deleteById(Integer id);
+    
+    /**
+     * Supprime des tickets par leurs IDs
+     * @param ids les IDs des tickets
+     */
+    void deleteAllById(Iterable<? extends Integer> ids);
+    
+    /**
+     * Trouve une tranche de tickets non résolus
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets non résolus
+     */
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByResoluFalse(Pageable pageable);
+    
+    /**
+     * Trouve une tranche de tickets résolus
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets résolus
+     */
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByResoluTrue(Pageable pageable);
+    
+    /**
+     * Trouve une tranche de tickets par statut de résolution
      * @param resolu le statut de résolution
-     * @return la liste des tickets avec le statut donné
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets avec le statut donné
      */
-    List<Ticket> findByResolu(Boolean resolu);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByResolu(Boolean resolu, Pageable pageable);
     
     /**
-     * Trouve tous les tickets soumis par un utilisateur
+     * Trouve une tranche des tickets soumis par un utilisateur
      * @param soumetteur l'utilisateur soumetteur
-     * @return la liste des tickets soumis par l'utilisateur
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets soumis par l'utilisateur
      */
-    List<Ticket> findBySoumetteur(Utilisateur soumetteur);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findBySoumetteur(Utilisateur soumetteur, Pageable pageable);
     
     /**
-     * Trouve tous les tickets résolus par un utilisateur
+     * Trouve une tranche des tickets résolus par un utilisateur
      * @param resolveur l'utilisateur résolveur
-     * @return la liste des tickets résolus par l'utilisateur
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets résolus par l'utilisateur
      */
-    List<Ticket> findByResolveur(Utilisateur resolveur);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByResolveur(Utilisateur resolveur, Pageable pageable);
     
     /**
-     * Trouve tous les tickets par priorité
+     * Trouve une tranche de tickets par priorité
      * @param priorite la priorité
-     * @return la liste des tickets avec cette priorité
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets avec cette priorité
      */
-    List<Ticket> findByPriorite(Priorite priorite);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByPriorite(Priorite priorite, Pageable pageable);
     
     /**
-     * Trouve tous les tickets contenant une catégorie spécifique
+     * Trouve une tranche de tickets contenant une catégorie spécifique
      * @param categorie la catégorie
-     * @return la liste des tickets contenant cette catégorie
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets contenant cette catégorie
      */
-    List<Ticket> findByCategoriesContaining(Categorie categorie);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    @Query("SELECT t FROM Ticket t JOIN t.categories c WHERE c.id = :#{#categorie.id}")
+    Slice<Ticket> findByCategoriesContaining(@Param("categorie") Categorie categorie, Pageable pageable);
     
     /**
-     * Trouve tous les tickets non résolus d'une priorité donnée
+     * Trouve une tranche de tickets non résolus d'une priorité donnée
      * @param priorite la priorité
-     * @return la liste des tickets non résolus de cette priorité
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets non résolus de cette priorité
      */
-    List<Ticket> findByResoluFalseAndPriorite(Priorite priorite);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByResoluFalseAndPriorite(Priorite priorite, Pageable pageable);
     
     /**
-     * Trouve tous les tickets créés après une date donnée
+     * Trouve une tranche de tickets créés après une date donnée
      * @param date la date de création minimum
-     * @return la liste des tickets créés après cette date
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets créés après cette date
      */
-    List<Ticket> findByDateCreationAfter(LocalDateTime date);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByDateCreationAfter(LocalDateTime date, Pageable pageable);
     
     /**
-     * Trouve tous les tickets créés entre deux dates
+     * Trouve une tranche de tickets créés entre deux dates
      * @param dateDebut la date de début
      * @param dateFin la date de fin
-     * @return la liste des tickets créés dans cette période
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets créés dans cette période
      */
-    List<Ticket> findByDateCreationBetween(LocalDateTime dateDebut, LocalDateTime dateFin);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    Slice<Ticket> findByDateCreationBetween(LocalDateTime dateDebut, LocalDateTime dateFin, Pageable pageable);
     
     /**
      * Compte le nombre de tickets non résolus
@@ -97,54 +209,195 @@ public interface TicketDao extends JpaRepository<Ticket, Integer> {
     long countByResoluTrue();
     
     /**
-     * Trouve les tickets par titre contenant un mot-clé (recherche insensible à la casse)
-     * @param keyword le mot-clé à rechercher
-     * @return la liste des tickets dont le titre contient le mot-clé
+     * Trouve les tickets non résolus les plus anciens
+     * @param limit le nombre maximum de tickets à retourner
+     * @return la liste des tickets non résolus triés par date de création croissante
      */
-    List<Ticket> findByTitreContainingIgnoreCase(String keyword);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    @Query("SELECT t FROM Ticket t WHERE t.resolu = false ORDER BY t.dateCreation ASC, t.id ASC")
+    List<Ticket> findOldestUnresolvedTickets(Limit limit);
     
     /**
-     * Trouve les tickets par description contenant un mot-clé (recherche insensible à la casse)
-     * @param keyword le mot-clé à rechercher
-     * @return la liste des tickets dont la description contient le mot-clé
+     * Lit l'ID et la date de création des tickets non résolus
+     * @return les lignes [ID, date de création]
      */
-    List<Ticket> findByDescriptionContainingIgnoreCase(String keyword);
+    @Query("SELECT t.id, t.dateCreation FROM Ticket t WHERE t.resolu = false")
+    List<Object[]> findUnresolvedIdsAndDates();
     
     /**
-     * Recherche dans le titre ou la description
-     * @param keyword le mot-clé à rechercher
-     * @return la liste des tickets contenant le mot-clé dans le titre ou la description
+     * Trouve une tranche des tickets résolus depuis une date donnée
+     * @param dateLimit la date de résolution minimum
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets résolus depuis cette date
      */
-    @Query("SELECT t FROM Ticket t WHERE LOWER(t.titre) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Ticket> searchByTitreOrDescription(@Param("keyword") String keyword);
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    @Query("SELECT t FROM Ticket t WHERE t.resolu = true AND t.dateResolution >= :dateLimit")
+    Slice<Ticket> findRecentlyResolvedTickets(@Param("dateLimit") LocalDateTime dateLimit, Pageable pageable);
     
     /**
-     * Trouve les tickets non résolus les plus anciens
-     * @return la liste des tickets non résolus triés par date de création croissante
+     * Trouve une tranche des tickets soumis ou résolus par un utilisateur
+     * @param utilisateur l'utilisateur
+     * @param pageable la page demandée (taille et tri)
+     * @return la tranche de tickets de l'utilisateur
      */
-    @Query("SELECT t FROM Ticket t WHERE t.resolu = false ORDER BY t.dateCreation ASC")
-    List<Ticket> findOldestUnresolvedTickets();
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    @Query("SELECT t FROM Ticket t WHERE t.soumetteur = :utilisateur OR t.resolveur = :utilisateur")
+    Slice<Ticket> findTicketsByUtilisateur(@Param("utilisateur") Utilisateur utilisateur, Pageable pageable);
     
     /**
-     * Trouve les tickets résolus récemment
-     * @param nombreJours le nombre de jours à considérer
-     * @return la liste des tickets résolus dans les derniers jours
+     * Page de tickets en projection basique (pagination par clé) triée du plus récent au plus ancien
+     * (la borne dateCreation <= :dateCreation permet un parcours de l'index sur date_creation)
+     * @param dateCreation la date de création du dernier ticket de la page précédente
+     * @param id l'ID du dernier ticket de la page précédente
+     * @param limit le nombre maximum de tickets à retourner
+     * @return la page de tickets située après le curseur
      */
-    @Query("SELECT t FROM Ticket t WHERE t.resolu = true AND t.dateResolution >= :dateLimit ORDER BY t.dateResolution DESC")
-    List<Ticket> findRecentlyResolvedTickets(@Param("dateLimit") LocalDateTime dateLimit);
+    @Query("SELECT new com.example.dto.TicketBasicDto(t.id, t.titre, t.description, t.resolu, t.dateCreation, t.dateResolution, p.id, p.nom) FROM Ticket t JOIN t.priorite p WHERE t.dateCreation <= :dateCreation AND (t.dateCreation < :dateCreation OR t.id < :id) ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TicketBasicDto> findPageBefore(@Param("dateCreation") LocalDateTime dateCreation, @Param("id") Integer id, Limit limit);
     
     /**
-     * Statistiques par priorité
-     * @return la liste des tickets groupés par priorité avec comptage
+     * Page de tickets non résolus en projection basique (pagination par clé) triée du plus récent au plus ancien
+     * @param dateCreation la date de création du dernier ticket de la page précédente
+     * @param id l'ID du dernier ticket de la page précédente
+     * @param limit le nombre maximum de tickets à retourner
+     * @return la page de tickets non résolus située après le curseur
      */
-    @Query("SELECT t.priorite.nom, COUNT(t) FROM Ticket t GROUP BY t.priorite.nom")
-    List<Object[]> getTicketCountByPriorite();
+    @Query("SELECT new com.example.dto.TicketBasicDto(t.id, t.titre, t.description, t.resolu, t.dateCreation, t.dateResolution, p.id, p.nom) FROM Ticket t JOIN t.priorite p WHERE t.resolu = false AND t.dateCreation <= :dateCreation AND (t.dateCreation < :dateCreation OR t.id < :id) ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TicketBasicDto> findUnresolvedPageBefore(@Param("dateCreation") LocalDateTime dateCreation, @Param("id") Integer id, Limit limit);
     
     /**
-     * Trouve les tickets assignés à un utilisateur (soumis ou à résoudre)
-     * @param utilisateur l'utilisateur
-     * @return la liste des tickets liés à cet utilisateur
+     * Page de tickets soumis par un utilisateur en projection basique (pagination par clé)
+     * @param soumetteurId l'ID de l'utilisateur soumetteur
+     * @param dateCreation la date de création du dernier ticket de la page précédente
+     * @param id l'ID du dernier ticket de la page précédente
+     * @param limit le nombre maximum de tickets à retourner
+     * @return la page de tickets de l'utilisateur située après le curseur
      */
-    @Query("SELECT t FROM Ticket t WHERE t.soumetteur = :utilisateur OR t.resolveur = :utilisateur")
-    List<Ticket> findTicketsByUtilisateur(@Param("utilisateur") Utilisateur utilisateur);
+    @Query("SELECT new com.example.dto.TicketBasicDto(t.id, t.titre, t.description, t.resolu, t.dateCreation, t.dateResolution, p.id, p.nom) FROM Ticket t JOIN t.priorite p WHERE t.soumetteur.id = :soumetteurId AND t.dateCreation <= :dateCreation AND (t.dateCreation < :dateCreation OR t.id < :id) ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TicketBasicDto> findBySoumetteurPageBefore(@Param("soumetteurId") Integer soumetteurId, @Param("dateCreation") LocalDateTime dateCreation, @Param("id") Integer id, Limit limit);
+    
+    /**
+     * Compte les tickets soumis par un utilisateur
+     * @param soumetteurId l'ID de l'utilisateur soumetteur
+     * @return le nombre de tickets soumis par l'utilisateur
+     */
+    long countBySoumetteurId(Integer soumetteurId);
+    
+    /**
+     * Compte les tickets d'une priorité (sans charger les tickets)
+     * @param prioriteId l'ID de la priorité
+     * @return le nombre de tickets de la priorité
+     */
+    long countByPrioriteId(Integer prioriteId);
+    
+    /**
+     * Compte les tickets d'une catégorie en lisant la table de liaison (sans charger les tickets)
+     * @param categorieId l'ID de la catégorie
+     * @return le nombre de tickets de la catégorie
+     */
+    @Query("SELECT COUNT(t) FROM Ticket t JOIN t.categories c WHERE c.id = :categorieId")
+    long countByCategorieId(@Param("categorieId") Integer categorieId);
+    
+    /**
+     * Parcourt tous les tickets sans les charger en mémoire d'un seul bloc
+     * (à consommer dans une transaction, puis fermer le flux)
+     * @return le flux des tickets triés par ID
+     */
+    @EntityGraph(Ticket.GRAPH_DETAIL)
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Ticket t ORDER BY t.id")
+    Stream<Ticket> streamAll();
+    
+    /**
+     * Parcourt les champs indexés par la recherche plein texte (ID, titre,
+     * description) sans charger les entités
+     * @return le flux des lignes [id, titre, description] triées par ID
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t.id, t.titre, t.description FROM Ticket t ORDER BY t.id")
+    Stream<Object[]> streamSearchableFields();
+    
+    /**
+     * Trouve des tickets par leurs IDs
+     * @param ids les IDs des tickets
+     * @return les tickets correspondants (dans un ordre quelconque)
+     */
+    @EntityGraph(Ticket.GRAPH_BASIC)
+    List<Ticket> findByIdIn(Collection<Integer> ids);
+    
+    /**
+     * Trouve des tickets par leurs IDs en projection basique
+     * @param ids les IDs des tickets
+     * @return les tickets correspondants (dans un ordre quelconque)
+     */
+    @Query("SELECT new com.example.dto.TicketBasicDto(t.id, t.titre, t.description, t.resolu, t.dateCreation, t.dateResolution, p.id, p.nom) FROM Ticket t JOIN t.priorite p WHERE t.id IN :ids")
+    List<TicketBasicDto> findBasicByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Lit et verrouille l'état de tickets avant une opération par lots
+     * @param ids les IDs des tickets
+     * @return les lignes [ID, résolu, ID de priorité, date de création] des tickets existants
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id, t.resolu, t.priorite.id, t.dateCreation FROM Ticket t WHERE t.id IN :ids")
+    List<Object[]> lockStatesByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Trouve les catégories de tickets
+     * @param ids les IDs des tickets
+     * @return les lignes [ID du ticket, ID de catégorie]
+     */
+    @Query("SELECT t.id, c.id FROM Ticket t JOIN t.categories c WHERE t.id IN :ids")
+    List<Object[]> findCategorieIdsByTicketIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Marque un ticket comme résolu s'il ne l'est pas déjà (compare-and-set sur
+     * resolu, sans verrou préalable)
+     * @param id             l'ID du ticket
+     * @param resolveur      l'administrateur qui résout le ticket
+     * @param dateResolution la date de résolution
+     * @return 1 si le ticket a été résolu, 0 s'il n'existe pas ou était déjà résolu
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.resolu = true, t.resolveur = :resolveur, t.dateResolution = :dateResolution, t.version = t.version + 1 WHERE t.id = :id AND t.resolu = false")
+    int resolveIfUnresolved(@Param("id") Integer id, @Param("resolveur") Utilisateur resolveur,
+            @Param("dateResolution") LocalDateTime dateResolution);
+    
+    /**
+     * Marque comme résolus, en une requête, ceux des tickets qui ne le sont pas
+     * @param ids            les IDs des tickets
+     * @param resolveur      l'administrateur qui résout les tickets
+     * @param dateResolution la date de résolution
+     * @return le nombre de tickets modifiés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.resolu = true, t.resolveur = :resolveur, t.dateResolution = :dateResolution, t.version = t.version + 1 WHERE t.id IN :ids AND t.resolu = false")
+    int resolveByIdIn(@Param("ids") Collection<Integer> ids, @Param("resolveur") Utilisateur resolveur,
+            @Param("dateResolution") LocalDateTime dateResolution);
+    
+    /**
+     * Rouvre, en une requête, ceux des tickets qui sont résolus
+     * @param ids les IDs des tickets
+     * @return le nombre de tickets modifiés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.resolu = false, t.resolveur = null, t.dateResolution = null, t.version = t.version + 1 WHERE t.id IN :ids AND t.resolu = true")
+    int reopenByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Supprime des tickets en une requête (Hibernate supprime au préalable leurs
+     * lignes ticket_categorie, également en une requête)
+     * @param ids les IDs des tickets
+     * @return le nombre de tickets supprimés
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Ticket t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
 }
\ No newline at end of file
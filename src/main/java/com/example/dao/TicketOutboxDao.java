@@ -0,0 +1,23 @@
+package com.example.dao;
+
+import com.example.model.TicketOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TicketOutboxDao extends JpaRepository<TicketOutboxEvent, Long> {
+
+    /**
+     * Trouve les événements en attente de plus petits IDs
+     * 
+     * Les IDs suivent l'ordre d'allocation de la séquence (réservée par blocs),
+     * pas celui des commits : voir TicketOutboxRelay pour l'ordre garanti.
+     * 
+     * @param pageable le nombre d'événements à lire
+     * @return les événements, par IDs croissants
+     */
+    List<TicketOutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -2,8 +2,11 @@ package com.example.dao;
 
 import com.example.model.Utilisateur;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,4 +67,19 @@ public interface UtilisateurDao extends JpaRepository<Utilisateur, Integer> {
      */
     @Query("SELECT DISTINCT u FROM Utilisateur u WHERE SIZE(u.ticketsResolus) > 0")
     List<Utilisateur> findUsersWithResolvedTickets();
-}
\ No newline at end of file
+
+    /**
+     * Remplace le hash du mot de passe d'un utilisateur s'il n'a pas changé
+     * entre-temps (un changement de mot de passe concurrent l'emporte)
+     * 
+     * @param id           l'ID de l'utilisateur
+     * @param expectedHash le hash actuellement attendu
+     * @param newHash      le nouveau hash
+     * @return 1 si le hash a été remplacé, 0 sinon
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Utilisateur u SET u.password = :newHash WHERE u.id = :id AND u.password = :expectedHash")
+    int replacePasswordHash(@Param("id") Integer id, @Param("expectedHash") String expectedHash,
+            @Param("newHash") String newHash);
+}
@@ -0,0 +1,31 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Utilisateur authentifié à l'origine d'une requête
+ * 
+ * Construit par les contrôleurs à partir des informations du token JWT vérifié
+ * (ID et droits administrateur) : les services contrôlent les droits sans
+ * relire l'utilisateur en base. Un changement de droits en base prend effet à
+ * l'expiration du token, comme pour les règles de SecurityConfig.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthenticatedUser {
+
+    private final Integer id;
+
+    private final boolean admin;
+
+    /**
+     * @param userId l'ID d'un utilisateur
+     * @return true si l'utilisateur authentifié est cet utilisateur
+     */
+    public boolean is(Integer userId) {
+        return id != null && id.equals(userId);
+    }
+}
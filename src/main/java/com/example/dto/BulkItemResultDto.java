@@ -0,0 +1,28 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Résultat du traitement d'un élément d'une opération par lots
+ */
+@Getter
+@AllArgsConstructor
+public class BulkItemResultDto {
+
+    /**
+     * Position de l'élément dans la requête
+     */
+    private int index;
+    private Integer ticketId;
+    private boolean success;
+    private String error;
+
+    public static BulkItemResultDto success(int index, Integer ticketId) {
+        return new BulkItemResultDto(index, ticketId, true, null);
+    }
+
+    public static BulkItemResultDto failure(int index, Integer ticketId, String error) {
+        return new BulkItemResultDto(index, ticketId, false, error);
+    }
+}
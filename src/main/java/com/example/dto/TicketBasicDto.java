@@ -0,0 +1,63 @@
+package com.example.dto;
+
+import com.example.view.BasicView;
+import com.example.view.TicketBasicView;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection en lecture seule d'un ticket pour TicketBasicView
+ * 
+ * Construite directement par les requêtes JPQL (expression constructeur) : les
+ * listes de tickets sont servies sans entités managées ni instantanés de
+ * vérification des modifications.
+ */
+@Getter
+public class TicketBasicDto {
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final Integer id;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final String titre;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final String description;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final Boolean resolu;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final LocalDateTime dateCreation;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final LocalDateTime dateResolution;
+
+    @JsonView({BasicView.class, TicketBasicView.class})
+    private final PrioriteRef priorite;
+
+    public TicketBasicDto(Integer id, String titre, String description, Boolean resolu,
+            LocalDateTime dateCreation, LocalDateTime dateResolution, Integer prioriteId, String prioriteNom) {
+        this.id = id;
+        this.titre = titre;
+        this.description = description;
+        this.resolu = resolu;
+        this.dateCreation = dateCreation;
+        this.dateResolution = dateResolution;
+        this.priorite = new PrioriteRef(prioriteId, prioriteNom);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PrioriteRef {
+
+        @JsonView(BasicView.class)
+        private final Integer id;
+
+        @JsonView(BasicView.class)
+        private final String nom;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement du cycle de vie d'un ticket, poussé aux clients du flux
+ * /api/tickets/events
+ *
+ * Seuls le type et l'ID du ticket sont transmis : le client relit le ticket
+ * s'il a besoin de son contenu.
+ */
+@Getter
+@AllArgsConstructor
+public class TicketEventDto {
+
+    /**
+     * Types d'événements
+     */
+    public enum Type {
+        CREATED, UPDATED, RESOLVED, REOPENED, DELETED
+    }
+
+    private Type type;
+    private Integer ticketId;
+    private LocalDateTime date;
+}
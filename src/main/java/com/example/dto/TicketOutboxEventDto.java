@@ -0,0 +1,19 @@
+package com.example.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement de l'outbox transmis aux destinations (TicketEventSink) et publié
+ * aux écouteurs Spring de l'application (@EventListener)
+ *
+ * Copie immuable d'une ligne de l'outbox : ni les destinations ni les
+ * écouteurs, appelés hors transaction, ne manipulent l'entité JPA.
+ *
+ * @param id         l'ID de l'événement, pour dédupliquer les renvois
+ * @param eventType  le type d'événement
+ * @param ticketId   l'ID du ticket concerné
+ * @param occurredAt la date de la modification
+ */
+public record TicketOutboxEventDto(Long id, TicketEventDto.Type eventType, Integer ticketId,
+        LocalDateTime occurredAt) {
+}
@@ -0,0 +1,19 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TicketPageDto {
+
+    private List<TicketBasicDto> tickets;
+    private String nextCursor;
+    private long totalCount;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
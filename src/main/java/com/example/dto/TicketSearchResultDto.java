@@ -0,0 +1,18 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TicketSearchResultDto {
+
+    private List<Integer> ticketIds;
+    private long totalHits;
+
+    public static TicketSearchResultDto empty() {
+        return new TicketSearchResultDto(List.of(), 0);
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.filter;
 
-import com.example.service.AuthService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,7 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final AuthService authService;
+    private final JwtClaimsCache jwtClaimsCache;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -39,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = getTokenFromRequest(request);
 
-            if (StringUtils.hasText(token) && !authService.isTokenExpired(token)) {
+            if (StringUtils.hasText(token)) {
                 authenticateUser(token, request);
             }
         } catch (Exception e) {
@@ -69,13 +68,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Configure l'authentification dans le contexte de sécurité Spring
      * 
-     * @param token   le token JWT valide
+     * @param token   le token JWT (signature et expiration vérifiées une seule
+     *                fois, puis lues depuis le cache)
      * @param request la requête HTTP
      */
     private void authenticateUser(String token, HttpServletRequest request) {
         try {
             // Validation et extraction des informations du token
-            Claims claims = authService.validateToken(token);
+            Claims claims = jwtClaimsCache.getVerifiedClaims(token);
             String username = claims.getSubject();
             Integer userId = claims.get("userId", Integer.class);
             Boolean isAdmin = claims.get("admin", Boolean.class);
@@ -96,7 +96,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("Utilisateur authentifié: {} (Admin: {})", username, isAdmin);
 
         } catch (Exception e) {
-            log.error("Erreur lors de la configuration de l'authentification: {}", e.getMessage());
+            // Token invalide ou expiré : la requête continue sans authentification
+            log.debug("Token JWT rejeté: {}", e.getMessage());
             SecurityContextHolder.clearContext();
         }
     }
@@ -0,0 +1,95 @@
+package com.example.filter;
+
+import com.example.service.AuthService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache des tokens JWT déjà vérifiés
+ *
+ * Les claims d'un token dont la signature a été vérifiée sont conservés jusqu'à
+ * l'expiration du token : un client qui réutilise le même token ne paie le coût
+ * du parsing et de la vérification HMAC qu'une seule fois. Les entrées sont
+ * indexées par l'empreinte SHA-256 du token (le token lui-même n'est pas
+ * conservé) et le nombre d'entrées est borné.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final AuthService authService;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtClaimsCache(AuthService authService,
+            @Value("${jwt.cache.max-size:10000}") long maximumSize) {
+        this.authService = authService;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * Retourne les claims d'un token valide, en ne vérifiant sa signature qu'au
+     * premier appel
+     *
+     * @param token le token JWT
+     * @return les claims du token
+     * @throws RuntimeException si le token est invalide ou expiré (l'échec n'est
+     *                          pas mis en cache)
+     */
+    public Claims getVerifiedClaims(String token) {
+        return verifiedTokens.get(fingerprint(token), key -> authService.validateToken(token));
+    }
+
+    /**
+     * Vide le cache
+     */
+    public void invalidateAll() {
+        verifiedTokens.invalidateAll();
+    }
+
+    private static String fingerprint(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algorithme SHA-256 indisponible", e);
+        }
+    }
+
+    /**
+     * Politique d'expiration : une entrée vit jusqu'à la date d'expiration du
+     * token qu'elle représente
+     */
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return 0;
+            }
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
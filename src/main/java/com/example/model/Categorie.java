@@ -1,5 +1,6 @@
 package com.example.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -7,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import com.example.view.BasicView;
 import com.example.view.CategorieBasicView;
 import com.example.view.CategorieDetailView;
@@ -19,6 +21,8 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@DynamicUpdate
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "categorie")
 public class Categorie {
 
@@ -39,4 +43,18 @@ public class Categorie {
     @ManyToMany(mappedBy = "categories", fetch = FetchType.LAZY)
     @JsonView(CategorieDetailView.class)
     private List<Ticket> tickets = new ArrayList<>();
+
+    /**
+     * Nombre de tickets de la catégorie et nombre de tickets non résolus, tenus à
+     * jour par TicketService et TicketBulkService dans la transaction de chaque
+     * modification ; @DynamicUpdate évite qu'une mise à jour du nom ne réécrive
+     * des compteurs lus avant une modification concurrente
+     */
+    @Column(name = "ticket_count", nullable = false)
+    @JsonView(CategorieDetailView.class)
+    private long ticketCount;
+
+    @Column(name = "unresolved_ticket_count", nullable = false)
+    @JsonView(CategorieDetailView.class)
+    private long unresolvedTicketCount;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -7,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import com.example.view.BasicView;
 import com.example.view.PrioriteBasicView;
 import com.example.view.PrioriteDetailView;
@@ -19,6 +21,8 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@DynamicUpdate
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "priorite")
 public class Priorite {
 
@@ -39,4 +43,18 @@ public class Priorite {
     @OneToMany(mappedBy = "priorite", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonView(PrioriteDetailView.class)
     private List<Ticket> tickets = new ArrayList<>();
+
+    /**
+     * Nombre de tickets de la priorité et nombre de tickets non résolus, tenus à
+     * jour par TicketService et TicketBulkService dans la transaction de chaque
+     * modification ; @DynamicUpdate évite qu'une mise à jour du nom ne réécrive
+     * des compteurs lus avant une modification concurrente
+     */
+    @Column(name = "ticket_count", nullable = false)
+    @JsonView(PrioriteDetailView.class)
+    private long ticketCount;
+
+    @Column(name = "unresolved_ticket_count", nullable = false)
+    @JsonView(PrioriteDetailView.class)
+    private long unresolvedTicketCount;
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import com.example.view.BasicView;
 import com.example.view.TicketBasicView;
 import com.example.view.TicketDetailView;
@@ -21,13 +23,33 @@ import java.util.List;
 @NoArgsConstructor
 @Entity
 @Table(name = "ticket")
+@NamedEntityGraph(name = Ticket.GRAPH_BASIC, attributeNodes = {
+    @NamedAttributeNode("priorite")
+})
+@NamedEntityGraph(name = Ticket.GRAPH_DETAIL, attributeNodes = {
+    @NamedAttributeNode("priorite"),
+    @NamedAttributeNode("soumetteur"),
+    @NamedAttributeNode("resolveur")
+})
 public class Ticket {
 
     public interface Add {}
     public interface Update {}
 
+    /**
+     * Plans de chargement : associations nécessaires pour TicketBasicView et
+     * TicketDetailView (les catégories sont chargées par lots)
+     */
+    public static final String GRAPH_BASIC = "Ticket.basic";
+    public static final String GRAPH_DETAIL = "Ticket.detail";
+
+    /**
+     * Identifiants réservés par blocs de 50 (séquence, optimiseur pooled-lo) :
+     * contrairement à IDENTITY, les insertions peuvent être regroupées en lots JDBC
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 50)
     @JsonView({BasicView.class, TicketBasicView.class})
     private Integer id;
 
@@ -55,23 +77,24 @@ public class Ticket {
     @JsonView({BasicView.class, TicketBasicView.class})
     private LocalDateTime dateResolution;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "soumetteur_id")
     @JsonView(TicketDetailView.class)
     private Utilisateur soumetteur;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resolveur_id")
     @JsonView(TicketDetailView.class)
     private Utilisateur resolveur;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "priorite_id", nullable = false)
     @NotNull(groups = {Add.class, Update.class}, message = "La priorité est obligatoire")
     @JsonView({BasicView.class, TicketBasicView.class})
     private Priorite priorite;
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
         name = "ticket_categorie",
         joinColumns = @JoinColumn(name = "ticket_id"),
@@ -80,6 +103,14 @@ public class Ticket {
     @JsonView(TicketDetailView.class)
     private List<Categorie> categories = new ArrayList<>();
 
+    /**
+     * Verrouillage optimiste : incrémenté à chaque modification du ticket
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         dateCreation = LocalDateTime.now();
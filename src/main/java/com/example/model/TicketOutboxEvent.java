@@ -0,0 +1,39 @@
+package com.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement de ticket en attente de transmission aux systèmes en aval
+ * (outbox), écrit dans la transaction de la modification du ticket
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ticket_outbox")
+public class TicketOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_outbox_seq")
+    @SequenceGenerator(name = "ticket_outbox_seq", sequenceName = "ticket_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Type d'événement (nom d'une constante de TicketEventDto.Type)
+     */
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Integer ticketId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
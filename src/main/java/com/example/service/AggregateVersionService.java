@@ -0,0 +1,135 @@
+package com.example.service;
+
+import com.example.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Versions des agrégats exposés en lecture (tickets, priorités, catégories)
+ *
+ * Chaque agrégat a un numéro de version incrémenté après le commit de toute
+ * modification, avec la date de cette modification. Last-Modified étant à la
+ * seconde, deux modifications dans la même seconde gardent la même date et ne
+ * se distinguent que par l'ETag ; la date n'est jamais avancée au-delà de
+ * l'horloge, pour ne pas dépasser l'en-tête Date de la réponse. Les contrôleurs en
+ * dérivent l'ETag et le Last-Modified de leurs listes : une requête
+ * conditionnelle (If-None-Match, If-Modified-Since) sur un agrégat inchangé
+ * reçoit un 304 sans requête en base ni sérialisation.
+ *
+ * La version est lue avant les données : une modification validée entre les
+ * deux donne au pire un ETag déjà périmé, que le client renverra et qui sera
+ * refusé à la requête suivante, jamais une réponse obsolète marquée comme à
+ * jour. L'ETag contient la date de démarrage de l'instance pour ne pas
+ * réutiliser les ETags d'une exécution précédente. Les versions étant tenues
+ * en mémoire, seules les modifications passant par les services de cette
+ * instance sont vues, comme pour les statistiques et la file des tickets non
+ * résolus.
+ */
+@Slf4j
+@Service
+public class AggregateVersionService {
+
+    /**
+     * Agrégats versionnés
+     */
+    public enum Aggregate {
+        TICKETS, PRIORITES, CATEGORIES
+    }
+
+    /**
+     * Version d'un agrégat
+     *
+     * @param eTag         l'ETag fort (entre guillemets)
+     * @param lastModified la date de la dernière modification, en ms
+     */
+    public record Version(String eTag, long lastModified) {
+    }
+
+    private final long startedAt = System.currentTimeMillis() / 1000 * 1000;
+    private final Map<Aggregate, Version> versions = new EnumMap<>(Aggregate.class);
+    private final Map<Aggregate, Long> counters = new EnumMap<>(Aggregate.class);
+
+    public AggregateVersionService() {
+        for (Aggregate aggregate : Aggregate.values()) {
+            counters.put(aggregate, 0L);
+            versions.put(aggregate, version(aggregate, 0L, startedAt));
+        }
+    }
+
+    /**
+     * Retourne la version courante d'un agrégat
+     *
+     * @param aggregate l'agrégat
+     * @return sa version
+     */
+    public synchronized Version current(Aggregate aggregate) {
+        return versions.get(aggregate);
+    }
+
+    /**
+     * Retourne la version d'une réponse composée de plusieurs agrégats : son
+     * ETag change dès que l'un d'eux change, sa date est la plus récente
+     *
+     * @param aggregates les agrégats
+     * @return leur version combinée
+     */
+    public synchronized Version current(Aggregate... aggregates) {
+        if (aggregates.length == 1) {
+            return versions.get(aggregates[0]);
+        }
+        StringBuilder eTag = new StringBuilder("\"");
+        long lastModified = startedAt;
+        for (Aggregate aggregate : aggregates) {
+            Version version = versions.get(aggregate);
+            if (eTag.length() > 1) {
+                eTag.append('.');
+            }
+            eTag.append(version.eTag(), 1, version.eTag().length() - 1);
+            lastModified = Math.max(lastModified, version.lastModified());
+        }
+        return new Version(eTag.append('"').toString(), lastModified);
+    }
+
+    /**
+     * Signale la modification d'agrégats, prise en compte après le commit de
+     * la transaction courante
+     *
+     * @param aggregates les agrégats modifiés
+     */
+    public void onChanged(Aggregate... aggregates) {
+        AfterCommit.run(() -> increment(aggregates));
+    }
+
+    /**
+     * Passe l'agrégat des tickets à la version suivante une fois la
+     * modification de tickets validée
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER)
+    public void onTicketsChanged(TicketChangeEvent event) {
+        increment(Aggregate.TICKETS);
+    }
+
+    private synchronized void increment(Aggregate... aggregates) {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        for (Aggregate aggregate : aggregates) {
+            long counter = counters.merge(aggregate, 1L, Long::sum);
+            // Date réelle du commit ; ne recule pas si l'horloge est ajustée
+            long lastModified = Math.max(now, versions.get(aggregate).lastModified());
+            versions.put(aggregate, version(aggregate, counter, lastModified));
+            log.debug("Nouvelle version de l'agrégat {}: {}", aggregate, counter);
+        }
+    }
+
+    private Version version(Aggregate aggregate, long counter, long lastModified) {
+        return new Version("\"" + aggregate.name().toLowerCase() + "-" + Long.toString(startedAt, 36) + "-"
+                + counter + "\"", lastModified);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.service;
+
+import com.example.dto.TicketOutboxEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Destination en mémoire : publie chaque événement aux écouteurs Spring de
+ * l'application (@EventListener sur TicketOutboxEventDto)
+ *
+ * Les écouteurs sont appelés par le thread du relais ; une exception levée
+ * par l'un d'eux fait renvoyer le lot.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationTicketEventSink implements TicketEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public String getName() {
+        return "application";
+    }
+
+    @Override
+    public void deliver(List<TicketOutboxEventDto> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
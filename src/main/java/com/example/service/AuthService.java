@@ -5,23 +5,42 @@ import com.example.dto.AuthResponseDto;
 import com.example.dto.LoginRequestDto;
 import com.example.model.Utilisateur;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Optional;
-
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Authentification des utilisateurs et gestion des tokens JWT
+ *
+ * La connexion, la création de compte et le changement de mot de passe
+ * retournent un CompletableFuture : le thread de requête confie le calcul
+ * BCrypt au pool de hachage (PasswordHashingService) et est libéré sans
+ * attendre. Les accès à la base qui suivent le calcul (enregistrement,
+ * mise à niveau du hash) s'exécutent sur l'exécuteur des tâches de
+ * l'application, jamais sur le pool de hachage, dont les threads ne servent
+ * qu'aux calculs.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final UtilisateurDao utilisateurDao;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final Executor continuationExecutor;
 
     @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
     private String jwtSecret;
@@ -29,41 +48,116 @@ public class AuthService {
     @Value("${jwt.expiration:86400}")
     private int jwtExpirationInSeconds;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
     /**
-     * Génère une clé secrète pour JWT
+     * @param utilisateurDao         le DAO des utilisateurs
+     * @param passwordEncoder        l'encodeur des mots de passe
+     * @param passwordHashingService le pool de hachage
+     * @param continuationExecutor   l'exécuteur des suites des calculs de
+     *                               hachage (accès à la base)
+     */
+    public AuthService(UtilisateurDao utilisateurDao, PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashingService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor continuationExecutor) {
+        this.utilisateurDao = utilisateurDao;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.continuationExecutor = continuationExecutor;
+    }
+
+    /**
+     * Génère une clé secrète pour JWT (calculée une seule fois)
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Retourne le parseur JWT vérifiant la signature (construit une seule fois,
+     * il est immuable et utilisable par plusieurs threads)
+     */
+    private JwtParser getJwtParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 
     /**
      * Authentifie un utilisateur et génère un token JWT
+     * 
+     * L'utilisateur est lu sur le thread appelant, le mot de passe vérifié sur
+     * le pool de hachage ; la suite (mise à niveau du hash, token) s'exécute
+     * sur l'exécuteur des suites. Si le hash stocké utilise un algorithme ou
+     * un coût dépassé, le mot de passe est rehaché avec les paramètres
+     * actuels.
+     * 
+     * @return la réponse à venir, en échec avec une RejectedExecutionException
+     *         si le pool de hachage est saturé
      */
-    public AuthResponseDto login(LoginRequestDto loginRequest) {
+    public CompletableFuture<AuthResponseDto> login(LoginRequestDto loginRequest) {
         Optional<Utilisateur> utilisateurOpt = utilisateurDao.findByPseudo(loginRequest.getPseudo());
-
         if (utilisateurOpt.isEmpty()) {
-            throw new RuntimeException("Utilisateur non trouvé");
+            return CompletableFuture.failedFuture(new RuntimeException("Utilisateur non trouvé"));
         }
-
         Utilisateur utilisateur = utilisateurOpt.get();
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), utilisateur.getPassword())) {
-            throw new RuntimeException("Mot de passe incorrect");
-        }
+        return verifyPassword(loginRequest.getPassword(), utilisateur.getPassword())
+                .thenComposeAsync(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Mot de passe incorrect");
+                    }
+                    return passwordEncoder.upgradeEncoding(utilisateur.getPassword())
+                            ? upgradePasswordHash(utilisateur, loginRequest.getPassword())
+                            : CompletableFuture.<Void>completedFuture(null);
+                }, continuationExecutor)
+                .thenApply(ignored -> new AuthResponseDto(generateToken(utilisateur), utilisateur.getPseudo(),
+                        utilisateur.isAdmin()));
+    }
 
-        String token = generateToken(utilisateur);
-        return new AuthResponseDto(token, utilisateur.getPseudo(), utilisateur.isAdmin());
+    /**
+     * Rehache un mot de passe vérifié avec les paramètres actuels ; en cas
+     * d'échec (pool saturé, mot de passe changé entre-temps), l'ancien hash
+     * reste valide et la mise à niveau sera retentée à la prochaine connexion
+     */
+    private CompletableFuture<Void> upgradePasswordHash(Utilisateur utilisateur, String rawPassword) {
+        String oldHash = utilisateur.getPassword();
+        return hashPassword(rawPassword)
+                .thenAcceptAsync(newHash -> {
+                    if (utilisateurDao.replacePasswordHash(utilisateur.getId(), oldHash, newHash) == 1) {
+                        log.info("Hash du mot de passe mis à niveau pour l'utilisateur: {}", utilisateur.getPseudo());
+                    }
+                }, continuationExecutor)
+                .exceptionally(throwable -> {
+                    log.warn("Mise à niveau du hash reportée pour l'utilisateur {}: {}", utilisateur.getPseudo(),
+                            PasswordHashingService.unwrap(throwable).getMessage());
+                    return null;
+                });
     }
 
     /**
      * Génère un token JWT pour un utilisateur
+     * 
+     * Chaque token a un identifiant unique (jti) : deux tokens émis dans la
+     * même seconde, dont un renouvellement, restent distincts.
      */
     public String generateToken(Utilisateur utilisateur) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInSeconds * 1000L);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(utilisateur.getPseudo())
                 .claim("userId", utilisateur.getId())
                 .claim("admin", utilisateur.isAdmin())
@@ -75,12 +169,13 @@ public class AuthService {
 
     /**
      * Valide un token JWT et retourne les claims
+     * 
+     * La signature et la date d'expiration sont vérifiées en une seule passe :
+     * un token expiré est rejeté comme invalide.
      */
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return getJwtParser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (Exception e) {
@@ -125,17 +220,23 @@ public class AuthService {
     }
 
     /**
-     * Hache un mot de passe
+     * Hache un mot de passe (sur le pool de hachage)
+     *
+     * @return le hash à venir, en échec avec une RejectedExecutionException si
+     *         le pool de hachage est saturé
      */
-    public String hashPassword(String password) {
-        return passwordEncoder.encode(password);
+    public CompletableFuture<String> hashPassword(String password) {
+        return passwordHashingService.submit("encode", () -> passwordEncoder.encode(password));
     }
 
     /**
-     * Vérifie si un mot de passe correspond au hash
+     * Vérifie si un mot de passe correspond au hash (sur le pool de hachage)
+     *
+     * @return le résultat à venir, en échec avec une
+     *         RejectedExecutionException si le pool de hachage est saturé
      */
-    public boolean verifyPassword(String password, String hashedPassword) {
-        return passwordEncoder.matches(password, hashedPassword);
+    public CompletableFuture<Boolean> verifyPassword(String password, String hashedPassword) {
+        return passwordHashingService.submit("matches", () -> passwordEncoder.matches(password, hashedPassword));
     }
 
     /**
@@ -167,34 +268,48 @@ public class AuthService {
     }
 
     /**
-     * Crée un utilisateur avec mot de passe haché
+     * Crée un utilisateur avec mot de passe haché (hachage sur le pool de
+     * hachage, enregistrement sur l'exécuteur des suites)
+     * 
+     * @return l'utilisateur enregistré à venir, en échec avec une
+     *         RejectedExecutionException si le pool de hachage est saturé
      */
-    public Utilisateur createUser(String pseudo, String password, Boolean admin) {
+    public CompletableFuture<Utilisateur> createUser(String pseudo, String password, Boolean admin) {
         if (utilisateurDao.existsByPseudo(pseudo)) {
-            throw new RuntimeException("Un utilisateur avec ce pseudo existe déjà");
+            return CompletableFuture.failedFuture(new RuntimeException("Un utilisateur avec ce pseudo existe déjà"));
         }
 
-        Utilisateur utilisateur = new Utilisateur();
-        utilisateur.setPseudo(pseudo);
-        utilisateur.setPassword(hashPassword(password));
-        utilisateur.setAdmin(admin != null ? admin : false);
-
-        return utilisateurDao.save(utilisateur);
+        return hashPassword(password).thenApplyAsync(hashedPassword -> {
+            Utilisateur utilisateur = new Utilisateur();
+            utilisateur.setPseudo(pseudo);
+            utilisateur.setPassword(hashedPassword);
+            utilisateur.setAdmin(admin != null ? admin : false);
+            return utilisateurDao.save(utilisateur);
+        }, continuationExecutor);
     }
 
     /**
-     * Met à jour le mot de passe d'un utilisateur
+     * Met à jour le mot de passe d'un utilisateur (calculs sur le pool de
+     * hachage, enregistrement sur l'exécuteur des suites)
      */
-    public void updatePassword(Integer userId, String oldPassword, String newPassword) {
-        Utilisateur utilisateur = utilisateurDao.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-
-        if (!verifyPassword(oldPassword, utilisateur.getPassword())) {
-            throw new RuntimeException("Ancien mot de passe incorrect");
+    public CompletableFuture<Void> updatePassword(Integer userId, String oldPassword, String newPassword) {
+        Optional<Utilisateur> utilisateurOpt = utilisateurDao.findById(userId);
+        if (utilisateurOpt.isEmpty()) {
+            return CompletableFuture.failedFuture(new RuntimeException("Utilisateur non trouvé"));
         }
+        Utilisateur utilisateur = utilisateurOpt.get();
 
-        utilisateur.setPassword(hashPassword(newPassword));
-        utilisateurDao.save(utilisateur);
+        return verifyPassword(oldPassword, utilisateur.getPassword())
+                .thenCompose(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Ancien mot de passe incorrect");
+                    }
+                    return hashPassword(newPassword);
+                })
+                .thenAcceptAsync(hashedPassword -> {
+                    utilisateur.setPassword(hashedPassword);
+                    utilisateurDao.save(utilisateur);
+                }, continuationExecutor);
     }
 
     /**
@@ -210,4 +325,4 @@ public class AuthService {
 
         return new AuthResponseDto(newToken, utilisateur.getPseudo(), utilisateur.isAdmin(), "Token renouvelé");
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.example.service;
 
+import com.example.config.CacheConfig;
 import com.example.dao.CategorieDao;
-import com.example.dao.TicketDao;
 import com.example.model.Categorie;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +18,16 @@ import java.util.Optional;
 public class CategorieService {
 
     private final CategorieDao categorieDao;
-    private final TicketDao ticketDao;
+    private final ReferenceUsageService referenceUsageService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Récupère toutes les catégories triées par nom
      * 
      * @return la liste de toutes les catégories
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "'all'")
     public List<Categorie> getAllCategories() {
         return categorieDao.findAllByOrderByNomAsc();
     }
@@ -37,6 +42,21 @@ public class CategorieService {
         return categorieDao.findById(id);
     }
 
+    /**
+     * Récupère une catégorie par son ID depuis le cache des données de référence
+     * 
+     * L'entité retournée est partagée et détachée : seuls son ID et son nom
+     * doivent être utilisés (ses tickets ne sont pas chargés).
+     * 
+     * @param id l'ID de la catégorie
+     * @return la catégorie si elle existe
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "#id", unless = "#result == null")
+    public Optional<Categorie> getCategorieReference(Integer id) {
+        return categorieDao.findById(id);
+    }
+
     /**
      * Récupère une catégorie par son nom
      * 
@@ -53,6 +73,7 @@ public class CategorieService {
      * @param nom le nom de la catégorie
      * @return la catégorie créée
      */
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public Categorie createCategorie(String nom) {
         // Validation du nom
         if (nom == null || nom.trim().isEmpty()) {
@@ -70,7 +91,9 @@ public class CategorieService {
         Categorie categorie = new Categorie();
         categorie.setNom(nomTrimmed);
 
-        return categorieDao.save(categorie);
+        Categorie savedCategorie = categorieDao.save(categorie);
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.CATEGORIES);
+        return savedCategorie;
     }
 
     /**
@@ -80,6 +103,7 @@ public class CategorieService {
      * @param nom le nouveau nom
      * @return la catégorie mise à jour
      */
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public Categorie updateCategorie(Integer id, String nom) {
         // Validation du nom
         if (nom == null || nom.trim().isEmpty()) {
@@ -98,7 +122,11 @@ public class CategorieService {
 
         categorie.setNom(nomTrimmed);
 
-        return categorieDao.save(categorie);
+        Categorie savedCategorie = categorieDao.save(categorie);
+        // Les listes de tickets reprennent le nom des données de référence
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.CATEGORIES,
+                AggregateVersionService.Aggregate.TICKETS);
+        return savedCategorie;
     }
 
     /**
@@ -106,17 +134,15 @@ public class CategorieService {
      * 
      * @param id l'ID de la catégorie à supprimer
      */
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public void deleteCategorie(Integer id) {
         Categorie categorie = categorieDao.findById(id)
                 .orElseThrow(() -> new RuntimeException("Catégorie non trouvée avec l'ID: " + id));
 
-        long ticketCount = ticketDao.findByCategoriesContaining(categorie).size();
-        if (ticketCount > 0) {
-            throw new RuntimeException("Impossible de supprimer cette catégorie car elle est utilisée par " +
-                    ticketCount + " ticket(s)");
-        }
+        referenceUsageService.checkCategorieDeletable(id);
 
         categorieDao.delete(categorie);
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.CATEGORIES);
     }
 
     /**
@@ -234,7 +260,7 @@ public class CategorieService {
      * @return le nombre de catégories utilisées
      */
     public long getUsedCategorieCount() {
-        return categorieDao.findCategoriesWithTickets().size();
+        return categorieDao.countCategoriesWithTickets();
     }
 
     /**
@@ -243,7 +269,7 @@ public class CategorieService {
      * @return le nombre de catégories non utilisées
      */
     public long getUnusedCategorieCount() {
-        return categorieDao.findCategoriesWithoutTickets().size();
+        return categorieDao.count() - categorieDao.countCategoriesWithTickets();
     }
 
     /**
@@ -253,13 +279,10 @@ public class CategorieService {
      * @return true si la catégorie peut être supprimée, false sinon
      */
     public boolean canDelete(Integer id) {
-        Optional<Categorie> categorieOpt = categorieDao.findById(id);
-        if (categorieOpt.isEmpty()) {
+        if (!categorieDao.existsById(id)) {
             return false;
         }
-
-        Categorie categorie = categorieOpt.get();
-        return ticketDao.findByCategoriesContaining(categorie).isEmpty();
+        return !referenceUsageService.isCategorieUsed(id);
     }
 
     /**
@@ -269,18 +292,13 @@ public class CategorieService {
      * @return le nombre de tickets
      */
     public long getTicketCountForCategorie(Integer id) {
-        Optional<Categorie> categorieOpt = categorieDao.findById(id);
-        if (categorieOpt.isEmpty()) {
-            return 0;
-        }
-
-        Categorie categorie = categorieOpt.get();
-        return ticketDao.findByCategoriesContaining(categorie).size();
+        return referenceUsageService.countCategorieUsage(id);
     }
 
     /**
      * Initialise les catégories par défaut si aucune n'existe
      */
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public void initializeDefaultCategories() {
         if (categorieDao.count() == 0) {
             String[] defaultCategories = {
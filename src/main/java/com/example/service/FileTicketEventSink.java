@@ -0,0 +1,66 @@
+package com.example.service;
+
+import com.example.dto.TicketOutboxEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destination fichier : ajoute les événements au format NDJSON (un événement
+ * JSON par ligne) à la fin de ticket.outbox.file.path
+ *
+ * Le fichier est synchronisé sur disque avant que le lot soit considéré comme
+ * transmis.
+ */
+@Service
+@ConditionalOnProperty(name = "ticket.outbox.file.enabled", havingValue = "true")
+public class FileTicketEventSink implements TicketEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param path         le fichier de destination
+     * @param objectMapper l'ObjectMapper de l'application
+     */
+    public FileTicketEventSink(@Value("${ticket.outbox.file.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public void deliver(List<TicketOutboxEventDto> events) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (TicketOutboxEventDto event : events) {
+            lines.write(objectMapper.writeValueAsBytes(event));
+            lines.write('\n');
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Exécution isolée du hachage et de la vérification des mots de passe
+ *
+ * BCrypt est volontairement coûteux en CPU : exécuté sur les threads de
+ * requête, une vague de connexions occuperait tout le pool de Tomcat au
+ * détriment des autres API. Les calculs sont donc confiés à un pool dédié de
+ * taille fixe (ticket.auth.hashing.threads) dont la file d'attente est bornée
+ * (ticket.auth.hashing.queue-capacity) : une fois la file pleine, les demandes
+ * sont refusées immédiatement par une RejectedExecutionException, traduite en
+ * 503 par les contrôleurs, au lieu de s'accumuler.
+ *
+ * Métriques publiées : auth.hashing.queue.size (demandes en attente),
+ * auth.hashing.active (calculs en cours), auth.hashing.duration (durée des
+ * calculs, par opération) et auth.hashing.rejected (demandes refusées).
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    public static final String SATURATED_MESSAGE =
+            "Service d'authentification saturé, veuillez réessayer dans quelques instants";
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param threads       le nombre de threads de hachage
+     * @param queueCapacity le nombre maximal de demandes en attente
+     * @param meterRegistry le registre des métriques
+     */
+    @Autowired
+    public PasswordHashingService(@Value("${ticket.auth.hashing.threads}") int threads,
+            @Value("${ticket.auth.hashing.queue-capacity}") int queueCapacity, MeterRegistry meterRegistry) {
+        this(new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("auth-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()), meterRegistry);
+        log.info("Hachage des mots de passe: {} thread(s), file d'attente de {} demande(s)", threads, queueCapacity);
+    }
+
+    /**
+     * @param executor      l'exécuteur des calculs (un ThreadPoolExecutor pour
+     *                      publier la taille de la file)
+     * @param meterRegistry le registre des métriques
+     */
+    public PasswordHashingService(Executor executor, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = meterRegistry.counter("auth.hashing.rejected");
+        if (executor instanceof ThreadPoolExecutor pool) {
+            BlockingQueue<Runnable> queue = pool.getQueue();
+            Gauge.builder("auth.hashing.queue.size", queue, BlockingQueue::size)
+                    .description("Demandes de hachage en attente")
+                    .register(meterRegistry);
+            Gauge.builder("auth.hashing.active", pool, ThreadPoolExecutor::getActiveCount)
+                    .description("Calculs de hachage en cours")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Exécute un calcul de hachage sur le pool dédié
+     *
+     * @param operation le nom de l'opération (étiquette de la métrique de durée)
+     * @param task      le calcul
+     * @return le résultat à venir, en échec avec une RejectedExecutionException
+     *         si la file d'attente est pleine
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder("auth.hashing.duration")
+                .description("Durée des calculs de hachage des mots de passe")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(SATURATED_MESSAGE, e));
+        }
+    }
+
+    /**
+     * Attend le résultat d'un calcul asynchrone, hors des threads de requête
+     * (initialisation des données au démarrage, tests)
+     *
+     * @param future le résultat à venir
+     * @return le résultat du calcul
+     * @throws RuntimeException l'exception levée par le calcul, dont une
+     *                          RejectedExecutionException si la file d'attente
+     *                          est pleine
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Retrouve l'exception d'origine d'un calcul asynchrone
+     *
+     * @param throwable l'exception reçue d'un CompletableFuture
+     * @return l'exception levée par le calcul
+     */
+    public static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof RuntimeException runtimeException ? runtimeException
+                : new CompletionException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            pool.shutdown();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.service;
 
+import com.example.config.CacheConfig;
 import com.example.dao.PrioriteDao;
-import com.example.dao.TicketDao;
 import com.example.model.Priorite;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +18,16 @@ import java.util.Optional;
 public class PrioriteService {
 
     private final PrioriteDao prioriteDao;
-    private final TicketDao ticketDao;
+    private final ReferenceUsageService referenceUsageService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Récupère toutes les priorités triées par nom
      * 
      * @return la liste de toutes les priorités
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRIORITES_CACHE, key = "'all'")
     public List<Priorite> getAllPriorites() {
         return prioriteDao.findAllByOrderByNomAsc();
     }
@@ -37,6 +42,21 @@ public class PrioriteService {
         return prioriteDao.findById(id);
     }
 
+    /**
+     * Récupère une priorité par son ID depuis le cache des données de référence
+     * 
+     * L'entité retournée est partagée et détachée : seuls son ID et son nom
+     * doivent être utilisés (ses tickets ne sont pas chargés).
+     * 
+     * @param id l'ID de la priorité
+     * @return la priorité si elle existe
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRIORITES_CACHE, key = "#id", unless = "#result == null")
+    public Optional<Priorite> getPrioriteReference(Integer id) {
+        return prioriteDao.findById(id);
+    }
+
     /**
      * Récupère une priorité par son nom
      * 
@@ -53,6 +73,7 @@ public class PrioriteService {
      * @param nom le nom de la priorité
      * @return la priorité créée
      */
+    @CacheEvict(cacheNames = CacheConfig.PRIORITES_CACHE, allEntries = true)
     public Priorite createPriorite(String nom) {
         if (nom == null || nom.trim().isEmpty()) {
             throw new RuntimeException("Le nom de la priorité est obligatoire");
@@ -67,7 +88,9 @@ public class PrioriteService {
         Priorite priorite = new Priorite();
         priorite.setNom(nomTrimmed);
 
-        return prioriteDao.save(priorite);
+        Priorite savedPriorite = prioriteDao.save(priorite);
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.PRIORITES);
+        return savedPriorite;
     }
 
     /**
@@ -77,6 +100,7 @@ public class PrioriteService {
      * @param nom le nouveau nom
      * @return la priorité mise à jour
      */
+    @CacheEvict(cacheNames = CacheConfig.PRIORITES_CACHE, allEntries = true)
     public Priorite updatePriorite(Integer id, String nom) {
         if (nom == null || nom.trim().isEmpty()) {
             throw new RuntimeException("Le nom de la priorité est obligatoire");
@@ -94,7 +118,11 @@ public class PrioriteService {
 
         priorite.setNom(nomTrimmed);
 
-        return prioriteDao.save(priorite);
+        Priorite savedPriorite = prioriteDao.save(priorite);
+        // Les listes de tickets reprennent le nom des données de référence
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.PRIORITES,
+                AggregateVersionService.Aggregate.TICKETS);
+        return savedPriorite;
     }
 
     /**
@@ -102,17 +130,15 @@ public class PrioriteService {
      * 
      * @param id l'ID de la priorité à supprimer
      */
+    @CacheEvict(cacheNames = CacheConfig.PRIORITES_CACHE, allEntries = true)
     public void deletePriorite(Integer id) {
         Priorite priorite = prioriteDao.findById(id)
                 .orElseThrow(() -> new RuntimeException("Priorité non trouvée avec l'ID: " + id));
 
-        long ticketCount = ticketDao.findByPriorite(priorite).size();
-        if (ticketCount > 0) {
-            throw new RuntimeException("Impossible de supprimer cette priorité car elle est utilisée par " +
-                    ticketCount + " ticket(s)");
-        }
+        referenceUsageService.checkPrioriteDeletable(id);
 
         prioriteDao.delete(priorite);
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.PRIORITES);
     }
 
     /**
@@ -210,7 +236,7 @@ public class PrioriteService {
      * @return le nombre de priorités utilisées
      */
     public long getUsedPrioriteCount() {
-        return prioriteDao.findPrioritiesWithTickets().size();
+        return prioriteDao.countPrioritiesWithTickets();
     }
 
     /**
@@ -219,7 +245,7 @@ public class PrioriteService {
      * @return le nombre de priorités non utilisées
      */
     public long getUnusedPrioriteCount() {
-        return prioriteDao.findPrioritiesWithoutTickets().size();
+        return prioriteDao.count() - prioriteDao.countPrioritiesWithTickets();
     }
 
     /**
@@ -229,13 +255,10 @@ public class PrioriteService {
      * @return true si la priorité peut être supprimée, false sinon
      */
     public boolean canDelete(Integer id) {
-        Optional<Priorite> prioriteOpt = prioriteDao.findById(id);
-        if (prioriteOpt.isEmpty()) {
+        if (!prioriteDao.existsById(id)) {
             return false;
         }
-
-        Priorite priorite = prioriteOpt.get();
-        return ticketDao.findByPriorite(priorite).isEmpty();
+        return !referenceUsageService.isPrioriteUsed(id);
     }
 
     /**
@@ -245,18 +268,13 @@ public class PrioriteService {
      * @return le nombre de tickets
      */
     public long getTicketCountForPriorite(Integer id) {
-        Optional<Priorite> prioriteOpt = prioriteDao.findById(id);
-        if (prioriteOpt.isEmpty()) {
-            return 0;
-        }
-
-        Priorite priorite = prioriteOpt.get();
-        return ticketDao.findByPriorite(priorite).size();
+        return referenceUsageService.countPrioriteUsage(id);
     }
 
     /**
      * Initialise les priorités par défaut si aucune n'existe
      */
+    @CacheEvict(cacheNames = CacheConfig.PRIORITES_CACHE, allEntries = true)
     public void initializeDefaultPriorites() {
         if (prioriteDao.count() == 0) {
             String[] defaultPriorites = { "Faible", "Normale", "Haute", "Critique", "Urgente" };
@@ -0,0 +1,222 @@
+package com.example.service;
+
+import com.example.dao.CategorieDao;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.model.Categorie;
+import com.example.model.Ticket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Utilisation des données de référence (priorités et catégories) par les
+ * tickets
+ *
+ * Répond à « cette priorité / catégorie est-elle utilisée, et par combien de
+ * tickets ? » par des requêtes EXISTS et COUNT, sans charger les tickets. Les
+ * suppressions de priorités et de catégories passent par ces vérifications.
+ *
+ * Tient aussi à jour les compteurs ticketCount et unresolvedTicketCount des
+ * priorités et catégories, seule source des nombres de tickets par priorité et
+ * par catégorie : lus directement par les listes par popularité et par les
+ * statistiques (TicketStatsService). Ils sont modifiés par des UPDATE
+ * relatifs dans la transaction de chaque création, résolution, réouverture,
+ * modification ou suppression de ticket, puis recalculés depuis ticket et
+ * ticket_categorie au démarrage et périodiquement
+ * (ticket.reference-counters.repair-interval) pour corriger les écarts dus à
+ * des modifications hors des services. Un recalcul change la version des
+ * priorités et des catégories : les réponses qui exposent ces compteurs ne
+ * sont pas servies en 304 avec des nombres corrigés depuis.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReferenceUsageService {
+
+    private final TicketDao ticketDao;
+    private final PrioriteDao prioriteDao;
+    private final CategorieDao categorieDao;
+    private final AggregateVersionService aggregateVersionService;
+
+    /**
+     * Vérifie si une priorité est utilisée par au moins un ticket
+     *
+     * @param prioriteId l'ID de la priorité
+     * @return true si la priorité est utilisée, false sinon
+     */
+    public boolean isPrioriteUsed(Integer prioriteId) {
+        return prioriteDao.isUsedByTickets(prioriteId);
+    }
+
+    /**
+     * Compte les tickets d'une priorité
+     *
+     * @param prioriteId l'ID de la priorité
+     * @return le nombre de tickets de la priorité
+     */
+    public long countPrioriteUsage(Integer prioriteId) {
+        return ticketDao.countByPrioriteId(prioriteId);
+    }
+
+    /**
+     * Refuse la suppression d'une priorité utilisée par des tickets
+     *
+     * @param prioriteId l'ID de la priorité
+     * @throws RuntimeException si la priorité est utilisée
+     */
+    public void checkPrioriteDeletable(Integer prioriteId) {
+        if (isPrioriteUsed(prioriteId)) {
+            throw new RuntimeException("Impossible de supprimer cette priorité car elle est utilisée par " +
+                    countPrioriteUsage(prioriteId) + " ticket(s)");
+        }
+    }
+
+    /**
+     * Vérifie si une catégorie est utilisée par au moins un ticket
+     *
+     * @param categorieId l'ID de la catégorie
+     * @return true si la catégorie est utilisée, false sinon
+     */
+    public boolean isCategorieUsed(Integer categorieId) {
+        return categorieDao.isUsedByTickets(categorieId);
+    }
+
+    /**
+     * Compte les tickets d'une catégorie
+     *
+     * @param categorieId l'ID de la catégorie
+     * @return le nombre de tickets de la catégorie
+     */
+    public long countCategorieUsage(Integer categorieId) {
+        return ticketDao.countByCategorieId(categorieId);
+    }
+
+    /**
+     * Refuse la suppression d'une catégorie utilisée par des tickets
+     *
+     * @param categorieId l'ID de la catégorie
+     * @throws RuntimeException si la catégorie est utilisée
+     */
+    public void checkCategorieDeletable(Integer categorieId) {
+        if (isCategorieUsed(categorieId)) {
+            throw new RuntimeException("Impossible de supprimer cette catégorie car elle est utilisée par " +
+                    countCategorieUsage(categorieId) + " ticket(s)");
+        }
+    }
+
+    /**
+     * Ajuste les compteurs d'une modification de tickets, dans sa transaction
+     * (écouteur synchrone, appelé lors de la publication)
+     *
+     * @param event la modification
+     */
+    @EventListener
+    @Transactional
+    public void onTicketsChanged(TicketChangeEvent event) {
+        apply(event.counterChanges());
+    }
+
+    /**
+     * Applique en une fois les écarts accumulés pour un lot de tickets : une
+     * mise à jour par priorité et par écart de catégories, dans l'ordre des
+     * IDs pour que des transactions concurrentes verrouillent les lignes dans
+     * le même ordre
+     *
+     * @param changes les écarts à appliquer
+     */
+    @Transactional
+    public void apply(CounterChanges changes) {
+        changes.prioriteDeltas.forEach((id, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                prioriteDao.adjustTicketCounts(id, delta[0], delta[1]);
+            }
+        });
+        Map<List<Long>, List<Integer>> categorieIdsByDelta = changes.categorieDeltas.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .collect(Collectors.groupingBy(entry -> List.of(entry.getValue()[0], entry.getValue()[1]),
+                        LinkedHashMap::new, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        categorieIdsByDelta.forEach(
+                (delta, ids) -> categorieDao.adjustTicketCounts(ids, delta.get(0), delta.get(1)));
+    }
+
+    /**
+     * Recalcule les compteurs de toutes les priorités et catégories depuis les
+     * tickets
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ticket.reference-counters.repair-interval}",
+            fixedDelayString = "${ticket.reference-counters.repair-interval}")
+    @Transactional
+    public void repairCounters() {
+        int priorites = prioriteDao.recomputeTicketCounts();
+        int categories = categorieDao.recomputeTicketCounts();
+        aggregateVersionService.onChanged(AggregateVersionService.Aggregate.PRIORITES,
+                AggregateVersionService.Aggregate.CATEGORIES);
+        log.debug("Compteurs de tickets recalculés: {} priorité(s), {} catégorie(s)", priorites, categories);
+    }
+
+    /**
+     * Écarts de compteurs [tickets, tickets non résolus] accumulés par
+     * priorité et par catégorie
+     */
+    public static final class CounterChanges {
+
+        private final Map<Integer, long[]> prioriteDeltas = new TreeMap<>();
+        private final Map<Integer, long[]> categorieDeltas = new TreeMap<>();
+
+        /**
+         * Ajoute les écarts d'un ticket
+         *
+         * @param prioriteId      l'ID de la priorité du ticket (peut être null)
+         * @param categorieIds    les IDs des catégories du ticket
+         * @param ticketDelta     l'écart du nombre de tickets
+         * @param unresolvedDelta l'écart du nombre de tickets non résolus
+         * @return ces écarts
+         */
+        public CounterChanges add(Integer prioriteId, Collection<Integer> categorieIds, long ticketDelta,
+                long unresolvedDelta) {
+            if (prioriteId != null) {
+                increment(prioriteDeltas, prioriteId, ticketDelta, unresolvedDelta);
+            }
+            categorieIds.stream().distinct()
+                    .forEach(id -> increment(categorieDeltas, id, ticketDelta, unresolvedDelta));
+            return this;
+        }
+
+        /**
+         * Ajoute les écarts d'un ticket, pour sa priorité et ses catégories
+         * actuelles
+         *
+         * @param ticket          le ticket
+         * @param ticketDelta     l'écart du nombre de tickets
+         * @param unresolvedDelta l'écart du nombre de tickets non résolus
+         * @return ces écarts
+         */
+        public CounterChanges add(Ticket ticket, long ticketDelta, long unresolvedDelta) {
+            Integer prioriteId = ticket.getPriorite() != null ? ticket.getPriorite().getId() : null;
+            List<Integer> categorieIds = ticket.getCategories() == null ? List.of()
+                    : ticket.getCategories().stream().map(Categorie::getId).toList();
+            return add(prioriteId, categorieIds, ticketDelta, unresolvedDelta);
+        }
+
+        private static void increment(Map<Integer, long[]> deltas, Integer id, long ticketDelta,
+                long unresolvedDelta) {
+            long[] delta = deltas.computeIfAbsent(id, key -> new long[2]);
+            delta[0] += ticketDelta;
+            delta[1] += unresolvedDelta;
+        }
+    }
+}
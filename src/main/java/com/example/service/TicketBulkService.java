@@ -0,0 +1,332 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.dto.AuthenticatedUser;
+import com.example.dto.BulkItemResultDto;
+import com.example.dto.CreateTicketDto;
+import com.example.dto.TicketEventDto;
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opérations sur des lots de tickets
+ * 
+ * Les données de référence (soumetteur, priorités, catégories) sont résolues
+ * une seule fois par lot et les tickets valides sont insérés ensemble : les
+ * IDs provenant d'une séquence, Hibernate regroupe les INSERT des tickets et
+ * de ticket_categorie en lots JDBC (hibernate.jdbc.batch_size). La résolution,
+ * la réouverture et la suppression verrouillent les tickets du lot puis les
+ * modifient par une seule requête ensembliste. Chaque élément du lot reçoit
+ * son propre résultat ; un élément refusé n'empêche pas le traitement des
+ * autres.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TicketBulkService {
+
+    private final TicketDao ticketDao;
+    private final UtilisateurDao utilisateurDao;
+    private final PrioriteService prioriteService;
+    private final CategorieService categorieService;
+    private final TicketChangePublisher ticketChangePublisher;
+    private final Validator validator;
+
+    @Value("${ticket.bulk.max-size:500}")
+    private int maxBulkSize;
+
+    /**
+     * Crée un lot de tickets
+     * 
+     * @param createTicketDtos les données des tickets à créer
+     * @param soumetteurId     l'ID de l'utilisateur qui soumet les tickets (peut
+     *                         être null pour un utilisateur non connecté)
+     * @return un résultat par ticket, dans l'ordre de la requête
+     */
+    public List<BulkItemResultDto> createTickets(List<CreateTicketDto> createTicketDtos, Integer soumetteurId) {
+        checkBulkSize(createTicketDtos);
+
+        // ID issu du token vérifié : seule la clé étrangère est écrite, sans lire l'utilisateur
+        Utilisateur soumetteur = soumetteurId == null ? null : utilisateurDao.getReferenceById(soumetteurId);
+        Map<Integer, Optional<Priorite>> priorites = new HashMap<>();
+        Map<Integer, Optional<Categorie>> categories = new HashMap<>();
+
+        BulkItemResultDto[] results = new BulkItemResultDto[createTicketDtos.size()];
+        List<Integer> ticketIndexes = new ArrayList<>();
+        List<Ticket> tickets = new ArrayList<>();
+
+        for (int i = 0; i < createTicketDtos.size(); i++) {
+            CreateTicketDto dto = createTicketDtos.get(i);
+            String error = validate(dto);
+            if (error == null) {
+                Optional<Priorite> priorite = priorites.computeIfAbsent(dto.getPrioriteId(),
+                        prioriteService::getPrioriteReference);
+                List<Categorie> ticketCategories = new ArrayList<>();
+                if (dto.getCategorieIds() != null) {
+                    dto.getCategorieIds().stream().distinct().forEach(id -> categories
+                            .computeIfAbsent(id, categorieService::getCategorieReference)
+                            .ifPresent(ticketCategories::add));
+                }
+
+                if (priorite.isEmpty()) {
+                    error = "Priorité non trouvée avec l'ID: " + dto.getPrioriteId();
+                } else if (dto.getCategorieIds() != null && ticketCategories.size() != dto.getCategorieIds().size()) {
+                    error = "Une ou plusieurs catégories n'ont pas été trouvées";
+                } else {
+                    Ticket ticket = new Ticket();
+                    ticket.setTitre(dto.getTitre());
+                    ticket.setDescription(dto.getDescription());
+                    ticket.setPriorite(priorite.get());
+                    ticket.setResolu(false);
+                    ticket.setSoumetteur(soumetteur);
+                    ticket.setCategories(ticketCategories);
+                    tickets.add(ticket);
+                    ticketIndexes.add(i);
+                }
+            }
+            if (error != null) {
+                results[i] = BulkItemResultDto.failure(i, null, error);
+            }
+        }
+
+        // Les INSERT ne partent qu'au flush, après la mise à jour des compteurs
+        // faite à la publication (voir TicketService.createTicket)
+        List<Ticket> savedTickets = ticketDao.saveAll(tickets);
+        ReferenceUsageService.CounterChanges counterChanges = new ReferenceUsageService.CounterChanges();
+        for (int j = 0; j < savedTickets.size(); j++) {
+            Ticket savedTicket = savedTickets.get(j);
+            results[ticketIndexes.get(j)] = BulkItemResultDto.success(ticketIndexes.get(j), savedTicket.getId());
+            counterChanges.add(savedTicket, 1, 1);
+        }
+        ticketChangePublisher.publish(new TicketChangeEvent(TicketEventDto.Type.CREATED,
+                savedTickets.stream().map(TicketChangeEvent.TicketState::of).toList(), counterChanges));
+
+        log.info("Création par lot: {} ticket(s) créé(s) sur {}", savedTickets.size(), createTicketDtos.size());
+        return List.of(results);
+    }
+
+    /**
+     * Marque un lot de tickets comme résolus (admin seulement)
+     * 
+     * @param ticketIds les IDs des tickets à résoudre
+     * @param resolveur l'administrateur authentifié qui résout les tickets
+     * @return un résultat par ID, dans l'ordre de la requête
+     */
+    public List<BulkItemResultDto> resolveTickets(List<Integer> ticketIds, AuthenticatedUser resolveur) {
+        checkBulkSize(ticketIds);
+        Utilisateur resolveurRef = adminReference(resolveur, "Seuls les administrateurs peuvent résoudre des tickets");
+
+        Map<Integer, Object[]> states = lockStates(ticketIds);
+        List<Integer> eligibleIds = states.values().stream()
+                .filter(state -> !(Boolean) state[1])
+                .map(state -> (Integer) state[0])
+                .toList();
+        if (!eligibleIds.isEmpty()) {
+            ticketDao.resolveByIdIn(eligibleIds, resolveurRef, LocalDateTime.now());
+            publish(TicketEventDto.Type.RESOLVED, eligibleIds, states, true,
+                    counterChanges(eligibleIds, states, 0, -1));
+        }
+
+        log.info("Résolution par lot: {} ticket(s) résolu(s) sur {}", eligibleIds.size(), ticketIds.size());
+        return toResults(ticketIds, states, state -> (Boolean) state[1] ? "Le ticket est déjà résolu" : null);
+    }
+
+    /**
+     * Rouvre un lot de tickets résolus (admin seulement)
+     * 
+     * @param ticketIds les IDs des tickets à rouvrir
+     * @param admin     l'administrateur authentifié
+     * @return un résultat par ID, dans l'ordre de la requête
+     */
+    public List<BulkItemResultDto> reopenTickets(List<Integer> ticketIds, AuthenticatedUser admin) {
+        checkBulkSize(ticketIds);
+        checkAdmin(admin, "Seuls les administrateurs peuvent rouvrir des tickets");
+
+        Map<Integer, Object[]> states = lockStates(ticketIds);
+        List<Integer> eligibleIds = states.values().stream()
+                .filter(state -> (Boolean) state[1])
+                .map(state -> (Integer) state[0])
+                .toList();
+        if (!eligibleIds.isEmpty()) {
+            ticketDao.reopenByIdIn(eligibleIds);
+            publish(TicketEventDto.Type.REOPENED, eligibleIds, states, false,
+                    counterChanges(eligibleIds, states, 0, 1));
+        }
+
+        log.info("Réouverture par lot: {} ticket(s) rouvert(s) sur {}", eligibleIds.size(), ticketIds.size());
+        return toResults(ticketIds, states, state -> (Boolean) state[1] ? null : "Le ticket n'est pas résolu");
+    }
+
+    /**
+     * Supprime un lot de tickets (admin seulement)
+     * 
+     * @param ticketIds les IDs des tickets à supprimer
+     * @param admin     l'administrateur authentifié
+     * @return un résultat par ID, dans l'ordre de la requête
+     */
+    public List<BulkItemResultDto> deleteTickets(List<Integer> ticketIds, AuthenticatedUser admin) {
+        checkBulkSize(ticketIds);
+        checkAdmin(admin, "Seuls les administrateurs peuvent supprimer des tickets");
+
+        Map<Integer, Object[]> states = lockStates(ticketIds);
+        if (!states.isEmpty()) {
+            Map<Integer, List<Integer>> categorieIds = ticketDao.findCategorieIdsByTicketIdIn(states.keySet()).stream()
+                    .collect(Collectors.groupingBy(row -> (Integer) row[0],
+                            Collectors.mapping(row -> (Integer) row[1], Collectors.toList())));
+
+            ticketDao.deleteByIdIn(states.keySet());
+
+            ReferenceUsageService.CounterChanges counterChanges = new ReferenceUsageService.CounterChanges();
+            List<TicketChangeEvent.TicketState> deleted = new ArrayList<>();
+            for (Object[] state : states.values()) {
+                counterChanges.add((Integer) state[2], categorieIds.getOrDefault((Integer) state[0], List.of()), -1,
+                        (Boolean) state[1] ? 0 : -1);
+                deleted.add(new TicketChangeEvent.TicketState((Integer) state[0], (LocalDateTime) state[3], null,
+                        null, (Boolean) state[1]));
+            }
+            ticketChangePublisher.publish(new TicketChangeEvent(TicketEventDto.Type.DELETED, deleted,
+                    counterChanges));
+        }
+
+        log.info("Suppression par lot: {} ticket(s) supprimé(s) sur {}", states.size(), ticketIds.size());
+        return toResults(ticketIds, states, state -> null);
+    }
+
+    /**
+     * Accumule les écarts de compteurs des priorités et catégories d'un lot de
+     * tickets verrouillés
+     */
+    private ReferenceUsageService.CounterChanges counterChanges(List<Integer> ticketIds,
+            Map<Integer, Object[]> states, long ticketDelta, long unresolvedDelta) {
+        Map<Integer, List<Integer>> categorieIds = ticketDao.findCategorieIdsByTicketIdIn(ticketIds).stream()
+                .collect(Collectors.groupingBy(row -> (Integer) row[0],
+                        Collectors.mapping(row -> (Integer) row[1], Collectors.toList())));
+        ReferenceUsageService.CounterChanges changes = new ReferenceUsageService.CounterChanges();
+        ticketIds.forEach(id -> changes.add((Integer) states.get(id)[2], categorieIds.getOrDefault(id, List.of()),
+                ticketDelta, unresolvedDelta));
+        return changes;
+    }
+
+    /**
+     * Publie la résolution ou la réouverture d'un lot de tickets verrouillés
+     *
+     * @param resolu l'état résolu des tickets après la modification
+     */
+    private void publish(TicketEventDto.Type type, List<Integer> ticketIds, Map<Integer, Object[]> states,
+            boolean resolu, ReferenceUsageService.CounterChanges counterChanges) {
+        List<TicketChangeEvent.TicketState> tickets = ticketIds.stream()
+                .map(id -> new TicketChangeEvent.TicketState(id, (LocalDateTime) states.get(id)[3], null, null,
+                        resolu))
+                .toList();
+        ticketChangePublisher.publish(new TicketChangeEvent(type, tickets, counterChanges));
+    }
+
+    private static void checkAdmin(AuthenticatedUser user, String refusalMessage) {
+        if (!user.isAdmin()) {
+            throw new RuntimeException(refusalMessage);
+        }
+    }
+
+    /**
+     * Vérifie les droits de l'administrateur et retourne une référence à
+     * l'utilisateur, sans le lire en base (seule la clé étrangère est écrite)
+     */
+    private Utilisateur adminReference(AuthenticatedUser user, String refusalMessage) {
+        checkAdmin(user, refusalMessage);
+        return utilisateurDao.getReferenceById(user.getId());
+    }
+
+    /**
+     * Verrouille les tickets existants du lot jusqu'à la fin de la transaction
+     * 
+     * @return l'état [ID, résolu, ID de priorité, date de création] de chaque
+     *         ticket existant, indexé par ID
+     */
+    private Map<Integer, Object[]> lockStates(List<Integer> ticketIds) {
+        List<Integer> ids = ticketIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Integer, Object[]> states = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            ticketDao.lockStatesByIdIn(ids).forEach(state -> states.put((Integer) state[0], state));
+        }
+        return states;
+    }
+
+    /**
+     * Construit le résultat de chaque élément du lot
+     * 
+     * @param rejection le motif de refus d'un ticket existant selon son état,
+     *                  ou null s'il a été traité
+     */
+    private static List<BulkItemResultDto> toResults(List<Integer> ticketIds, Map<Integer, Object[]> states,
+            Function<Object[], String> rejection) {
+        List<BulkItemResultDto> results = new ArrayList<>(ticketIds.size());
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < ticketIds.size(); i++) {
+            Integer ticketId = ticketIds.get(i);
+            Object[] state = states.get(ticketId);
+            String error;
+            if (ticketId == null) {
+                error = "ID de ticket manquant";
+            } else if (!seen.add(ticketId)) {
+                error = "Ticket présent plusieurs fois dans le lot";
+            } else if (state == null) {
+                error = "Ticket non trouvé avec l'ID: " + ticketId;
+            } else {
+                error = rejection.apply(state);
+            }
+            results.add(error == null ? BulkItemResultDto.success(i, ticketId)
+                    : BulkItemResultDto.failure(i, ticketId, error));
+        }
+        return results;
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new RuntimeException("Le lot est vide");
+        }
+        if (items.size() > maxBulkSize) {
+            throw new RuntimeException("Un lot ne peut pas contenir plus de " + maxBulkSize + " éléments");
+        }
+    }
+
+    /**
+     * @return les messages de validation de l'élément, ou null s'il est valide
+     */
+    private String validate(CreateTicketDto dto) {
+        if (dto == null) {
+            return "Élément vide";
+        }
+        Set<ConstraintViolation<CreateTicketDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
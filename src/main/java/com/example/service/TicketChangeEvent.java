@@ -0,0 +1,77 @@
+package com.example.service;
+
+import com.example.dto.TicketEventDto;
+import com.example.model.Ticket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Modification d'un ou plusieurs tickets, publiée par TicketChangePublisher
+ * dans la transaction qui la réalise
+ *
+ * Les compteurs des priorités et catégories sont ajustés dans cette
+ * transaction (ReferenceUsageService) ; l'état tenu en mémoire (index de
+ * recherche, statistiques, file des tickets non résolus, versions des
+ * agrégats) et le flux SSE sont mis à jour après son commit
+ * (@TransactionalEventListener), une transaction annulée ne les modifiant pas.
+ *
+ * @param type           le type de modification
+ * @param tickets        l'état de chaque ticket concerné
+ * @param counterChanges les écarts des compteurs de tickets des priorités et
+ *                       catégories
+ */
+public record TicketChangeEvent(TicketEventDto.Type type, List<TicketState> tickets,
+        ReferenceUsageService.CounterChanges counterChanges) {
+
+    /**
+     * Ordre des écouteurs qui tiennent l'état en mémoire à jour : ils passent
+     * avant TicketEventStream, pour qu'un client notifié d'une modification
+     * lise des listes, des ETags et des résultats de recherche qui en tiennent
+     * déjà compte
+     */
+    public static final int STATE_LISTENER_ORDER = 0;
+
+    public TicketChangeEvent {
+        tickets = List.copyOf(tickets);
+    }
+
+    /**
+     * @return les IDs des tickets concernés
+     */
+    public List<Integer> ticketIds() {
+        return tickets.stream().map(TicketState::id).toList();
+    }
+
+    /**
+     * @return le nombre de tickets concernés qui sont résolus
+     */
+    public int resolvedCount() {
+        return (int) tickets.stream().filter(TicketState::resolu).count();
+    }
+
+    /**
+     * État d'un ticket modifié, copié dans la transaction
+     *
+     * @param id           l'ID du ticket
+     * @param dateCreation la date de création du ticket
+     * @param titre        le titre, pour l'index de recherche (renseigné pour
+     *                     CREATED et UPDATED)
+     * @param description  la description, pour l'index de recherche
+     *                     (renseignée pour CREATED et UPDATED)
+     * @param resolu       si le ticket est résolu après la modification (avant
+     *                     sa suppression pour DELETED)
+     */
+    public record TicketState(Integer id, LocalDateTime dateCreation, String titre, String description,
+            boolean resolu) {
+
+        /**
+         * @param ticket le ticket créé, modifié ou supprimé
+         * @return son état, texte compris
+         */
+        public static TicketState of(Ticket ticket) {
+            return new TicketState(ticket.getId(), ticket.getDateCreation(), ticket.getTitre(),
+                    ticket.getDescription(), ticket.isResolu());
+        }
+    }
+}
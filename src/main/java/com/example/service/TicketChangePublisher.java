@@ -0,0 +1,38 @@
+package com.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Point de sortie unique des modifications de tickets
+ *
+ * Chaque modification faite par TicketService ou TicketBulkService est
+ * enregistrée dans l'outbox puis publiée une fois (TicketChangeEvent) aux
+ * écouteurs de l'application, qui s'y abonnent au lieu d'être appelés un par
+ * un par les services.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketChangePublisher {
+
+    private final TicketOutboxService ticketOutboxService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Enregistre la modification dans l'outbox et la publie, dans la
+     * transaction courante
+     *
+     * @param event la modification
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(TicketChangeEvent event) {
+        if (event.tickets().isEmpty()) {
+            return;
+        }
+        ticketOutboxService.record(event.type(), event.ticketIds());
+        applicationEventPublisher.publishEvent(event);
+    }
+}
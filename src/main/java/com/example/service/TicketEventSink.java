@@ -0,0 +1,29 @@
+package com.example.service;
+
+import com.example.dto.TicketOutboxEventDto;
+
+import java.util.List;
+
+/**
+ * Destination des événements de tickets transmis par TicketOutboxRelay
+ *
+ * Livraison « au moins une fois » : après un échec, le lot est renvoyé à
+ * toutes les destinations, y compris celles qui l'avaient déjà reçu. Les
+ * destinations dédupliquent au besoin sur l'ID de l'événement.
+ */
+public interface TicketEventSink {
+
+    /**
+     * @return le nom de la destination (étiquette des métriques)
+     */
+    String getName();
+
+    /**
+     * Transmet un lot d'événements, par IDs croissants (ordre au mieux, voir
+     * TicketOutboxRelay)
+     *
+     * @param events les événements
+     * @throws Exception si le lot n'a pas pu être transmis (il sera renvoyé)
+     */
+    void deliver(List<TicketOutboxEventDto> events) throws Exception;
+}
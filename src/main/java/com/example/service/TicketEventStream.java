@@ -0,0 +1,336 @@
+package com.example.service;
+
+import com.example.dto.TicketEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flux Server-Sent Events des modifications de tickets (/api/tickets/events)
+ *
+ * Les créations, modifications, résolutions, réouvertures et suppressions
+ * validées par TicketService et TicketBulkService sont numérotées et diffusées
+ * aux clients connectés, au lieu que chacun interroge /api/tickets/unresolved.
+ *
+ * Les connexions sont asynchrones (SseEmitter) : un client inactif n'occupe
+ * aucun thread. Les envois sont faits par un petit pool dédié
+ * (ticket.events.dispatch-threads), un seul envoi à la fois par client, dans
+ * l'ordre. Chaque client a un tampon borné (ticket.events.subscriber-buffer) :
+ * s'il ne suit pas, son tampon est vidé et remplacé par un événement
+ * « resync » qui lui indique de relire les tickets, sans ralentir les autres.
+ *
+ * Les derniers événements (ticket.events.history-size) sont gardés en mémoire :
+ * un client qui se reconnecte avec l'en-tête Last-Event-ID reçoit ceux qu'il a
+ * manqués, ou un « resync » s'ils ne sont plus disponibles (historique dépassé,
+ * redémarrage du serveur). Un commentaire est envoyé périodiquement
+ * (ticket.events.heartbeat-interval) pour garder les connexions ouvertes et
+ * détecter les clients partis. À l'ouverture, le délai de reconnexion (retry)
+ * est envoyé tout de suite : le client reçoit la réponse sans attendre le
+ * premier événement.
+ */
+@Slf4j
+@Service
+public class TicketEventStream implements DisposableBean {
+
+    public static final String SATURATED_MESSAGE =
+            "Trop de connexions au flux d'événements, veuillez réessayer dans quelques instants";
+
+    static final String TICKET_EVENT = "ticket";
+    static final String RESYNC_EVENT = "resync";
+    static final long RECONNECT_TIME = 5_000;
+
+    private final Executor executor;
+    private final int historySize;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final long timeout;
+    private final Counter resyncCounter;
+
+    // Préfixe des IDs d'événements : les IDs d'une exécution précédente ne sont pas repris
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Places réservées avant l'inscription, libérées à la fin de chaque connexion
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Deque<StoredEvent> history = new ArrayDeque<>();
+    private long lastSequence;
+
+    /**
+     * @param dispatchThreads  le nombre de threads d'envoi
+     * @param historySize      le nombre d'événements gardés pour la reprise
+     * @param subscriberBuffer le nombre d'événements en attente par client
+     * @param maxSubscribers   le nombre maximal de clients connectés
+     * @param timeout          la durée maximale d'une connexion, en ms
+     * @param meterRegistry    le registre des métriques
+     */
+    @Autowired
+    public TicketEventStream(@Value("${ticket.events.dispatch-threads}") int dispatchThreads,
+            @Value("${ticket.events.history-size}") int historySize,
+            @Value("${ticket.events.subscriber-buffer}") int subscriberBuffer,
+            @Value("${ticket.events.max-subscribers}") int maxSubscribers,
+            @Value("${ticket.events.timeout}") long timeout, MeterRegistry meterRegistry) {
+        this(Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("ticket-events-")),
+                historySize, subscriberBuffer, maxSubscribers, timeout, meterRegistry);
+    }
+
+    /**
+     * @param executor         l'exécuteur des envois
+     * @param historySize      le nombre d'événements gardés pour la reprise
+     * @param subscriberBuffer le nombre d'événements en attente par client
+     * @param maxSubscribers   le nombre maximal de clients connectés
+     * @param timeout          la durée maximale d'une connexion, en ms
+     * @param meterRegistry    le registre des métriques
+     */
+    public TicketEventStream(Executor executor, int historySize, int subscriberBuffer, int maxSubscribers,
+            long timeout, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.historySize = historySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.resyncCounter = meterRegistry.counter("ticket.events.resync");
+        Gauge.builder("ticket.events.subscribers", subscribers, Set::size)
+                .description("Clients connectés au flux des événements de tickets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ouvre une connexion au flux
+     *
+     * @param lastEventId l'ID du dernier événement reçu (en-tête
+     *                    Last-Event-ID), null pour ne recevoir que les
+     *                    nouveaux événements
+     * @return la connexion
+     * @throws RejectedExecutionException si le nombre maximal de clients est
+     *                                    atteint
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (connections.incrementAndGet() > maxSubscribers) {
+            connections.decrementAndGet();
+            throw new RejectedExecutionException(SATURATED_MESSAGE);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::release);
+        emitter.onError(error -> subscriber.release());
+        subscriber.offer(StoredEvent.OPEN);
+
+        // Sous le verrou des diffusions : aucun événement entre la reprise et l'inscription
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Diffuse un événement par ticket une fois la modification validée, après
+     * la mise à jour de l'état en mémoire (ordre par défaut des écouteurs,
+     * après TicketChangeEvent.STATE_LISTENER_ORDER)
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener
+    public void onTicketsChanged(TicketChangeEvent event) {
+        LocalDateTime date = LocalDateTime.now();
+        event.ticketIds().forEach(ticketId -> broadcast(new TicketEventDto(event.type(), ticketId, date)));
+    }
+
+    /**
+     * Envoie un commentaire aux clients dont le tampon est vide, pour garder
+     * les connexions ouvertes et retirer celles des clients partis
+     */
+    @Scheduled(initialDelayString = "${ticket.events.heartbeat-interval}",
+            fixedDelayString = "${ticket.events.heartbeat-interval}")
+    public void heartbeat() {
+        synchronized (this) {
+            subscribers.stream()
+                    .filter(subscriber -> subscriber.queue.isEmpty())
+                    .forEach(subscriber -> subscriber.offer(StoredEvent.HEARTBEAT));
+        }
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    /**
+     * @return le nombre de clients connectés
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(TicketEventDto event) {
+        synchronized (this) {
+            StoredEvent storedEvent = new StoredEvent(++lastSequence, TICKET_EVENT, event);
+            history.addLast(storedEvent);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(storedEvent));
+        }
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long sequence = sequenceOf(lastEventId);
+        long oldest = history.isEmpty() ? lastSequence + 1 : history.getFirst().sequence();
+        if (sequence < oldest - 1 || sequence > lastSequence) {
+            subscriber.offer(new StoredEvent(lastSequence, RESYNC_EVENT, Map.of("reason", "history")));
+            return;
+        }
+        history.stream()
+                .filter(event -> event.sequence() > sequence)
+                .forEach(subscriber::offer);
+    }
+
+    private long sequenceOf(String eventId) {
+        String prefix = streamId + "-";
+        if (!eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Événement numéroté (sequence 0 : ouverture ou maintien de connexion)
+     */
+    private record StoredEvent(long sequence, String name, Object data) {
+
+        static final StoredEvent OPEN = new StoredEvent(0, null, "open");
+        static final StoredEvent HEARTBEAT = new StoredEvent(0, null, null);
+    }
+
+    /**
+     * Client connecté et son tampon d'événements à envoyer
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StoredEvent> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Met un événement en attente ; si le tampon est plein, les événements
+         * en attente sont remplacés par un « resync »
+         */
+        private void offer(StoredEvent event) {
+            if (!queue.offer(event)) {
+                queue.clear();
+                queue.offer(new StoredEvent(event.sequence(), RESYNC_EVENT, Map.of("reason", "overflow")));
+                resyncCounter.increment();
+            }
+        }
+
+        /**
+         * Programme l'envoi des événements en attente, sauf s'il est déjà
+         * programmé
+         */
+        private void schedule() {
+            if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                StoredEvent event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(toSse(event));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Client du flux des événements déconnecté: {}", e.getMessage());
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // Événement ajouté entre la fin de la boucle et la libération du drapeau
+            schedule();
+        }
+
+        private SseEmitter.SseEventBuilder toSse(StoredEvent event) {
+            if (event == StoredEvent.OPEN) {
+                return SseEmitter.event().reconnectTime(RECONNECT_TIME).comment("open");
+            }
+            if (event.name() == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event()
+                    .id(streamId + "-" + event.sequence())
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON);
+        }
+
+        /**
+         * Retire le client et libère sa place, une seule fois quelle que soit
+         * la cause (fin, erreur, déconnexion détectée à l'envoi)
+         */
+        private void release() {
+            subscribers.remove(this);
+            if (released.compareAndSet(false, true)) {
+                connections.decrementAndGet();
+            }
+        }
+
+        private void close() {
+            release();
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Connexion déjà terminée
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.model.Ticket;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Export des tickets au format NDJSON (un objet JSON par ligne)
+ * 
+ * Les tickets sont lus via un curseur JDBC et sérialisés par lots : le
+ * contexte de persistance est vidé après chaque lot, de sorte que la mémoire
+ * utilisée ne dépend pas du nombre de tickets exportés.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final TicketDao ticketDao;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ticket.export.flush-interval:500}")
+    private int flushInterval;
+
+    /**
+     * Écrit tous les tickets dans le flux de sortie, une ligne JSON par ticket
+     * 
+     * @param outputStream le flux de sortie (non fermé par cette méthode)
+     * @param view         la vue Jackson à appliquer (TicketBasicView ou
+     *                     TicketDetailView)
+     * @return le nombre de tickets exportés
+     * @throws IOException si l'écriture dans le flux échoue (client déconnecté)
+     */
+    @Transactional(readOnly = true)
+    public long exportTickets(OutputStream outputStream, Class<?> view) throws IOException {
+        ObjectWriter writer = objectMapper.writerWithView(view)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = 0;
+
+        try (Stream<Ticket> tickets = ticketDao.streamAll()) {
+            Iterator<Ticket> iterator = tickets.iterator();
+            List<Ticket> chunk = new ArrayList<>(flushInterval);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == flushInterval || !iterator.hasNext()) {
+                    // Les catégories des tickets du lot sont chargées par lots à la première sérialisation
+                    for (Ticket ticket : chunk) {
+                        writer.writeValue(outputStream, ticket);
+                        outputStream.write(NEWLINE);
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                    outputStream.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        outputStream.flush();
+        log.info("Export NDJSON terminé: {} ticket(s)", count);
+        return count;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.service;
+
+import com.example.dao.TicketOutboxDao;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketOutboxEventDto;
+import com.example.model.TicketOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Transmission des événements de l'outbox aux systèmes en aval
+ *
+ * Toutes les ticket.outbox.poll-interval ms, les événements en attente sont
+ * lus par lots de ticket.outbox.batch-size par IDs croissants, transmis à
+ * chaque destination (TicketEventSink), puis supprimés de l'outbox. Aucune
+ * transaction ni connexion n'est gardée pendant la transmission.
+ *
+ * Livraison « au moins une fois » : si une destination échoue, le lot reste
+ * dans l'outbox et sera renvoyé en entier, après un délai doublé à chaque
+ * échec consécutif (de ticket.outbox.backoff.initial à
+ * ticket.outbox.backoff.max ms). Les lots suivants attendent : un lot n'est
+ * jamais transmis avant le précédent.
+ *
+ * Ordre « au mieux » : les IDs viennent d'une séquence réservée par blocs de
+ * 50 par instance, c'est l'ordre d'allocation et non celui des commits. Des
+ * événements de tickets différents peuvent être transmis dans l'ordre inverse
+ * de leurs commits, et un événement validé après un lot avec un ID plus petit
+ * est transmis au passage suivant (jamais perdu). Pour un même ticket, les
+ * modifications sont sérialisées par le verrou optimiste (Ticket.version) :
+ * avec une seule instance, ses événements sont transmis dans l'ordre. Avec
+ * plusieurs instances, qui réservent chacune leurs blocs, ce n'est plus
+ * garanti : les destinations qui en dépendent ordonnent par ticket sur
+ * occurredAt.
+ *
+ * Un événement illisible (type inconnu de cette version, par exemple écrit par
+ * une instance plus récente) ne bloque pas l'outbox : il est journalisé en
+ * erreur avec son contenu, compté, puis supprimé sans être transmis ; le
+ * reste du lot est transmis normalement.
+ *
+ * Métriques publiées : ticket.outbox.delivered (événements transmis),
+ * ticket.outbox.delivery (durée d'envoi d'un lot, par destination),
+ * ticket.outbox.failures (échecs, par destination),
+ * ticket.outbox.discarded (événements illisibles écartés) et
+ * ticket.outbox.consecutive-failures.
+ */
+@Slf4j
+@Service
+public class TicketOutboxRelay {
+
+    private final TicketOutboxDao ticketOutboxDao;
+    private final List<TicketEventSink> sinks;
+    private final int batchSize;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Counter deliveredCounter;
+    private final Counter discardedCounter;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private long nextAttemptAt;
+
+    /**
+     * @param ticketOutboxDao le DAO de l'outbox
+     * @param sinks           les destinations des événements
+     * @param batchSize       le nombre maximal d'événements par lot
+     * @param initialBackoff  le délai avant le premier nouvel essai, en ms
+     * @param maxBackoff      le délai maximal entre deux essais, en ms
+     * @param meterRegistry   le registre des métriques
+     */
+    @Autowired
+    public TicketOutboxRelay(TicketOutboxDao ticketOutboxDao, List<TicketEventSink> sinks,
+            @Value("${ticket.outbox.batch-size}") int batchSize,
+            @Value("${ticket.outbox.backoff.initial}") long initialBackoff,
+            @Value("${ticket.outbox.backoff.max}") long maxBackoff, MeterRegistry meterRegistry) {
+        this(ticketOutboxDao, sinks, batchSize, initialBackoff, maxBackoff, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    /**
+     * @param ticketOutboxDao le DAO de l'outbox
+     * @param sinks           les destinations des événements
+     * @param batchSize       le nombre maximal d'événements par lot
+     * @param initialBackoff  le délai avant le premier nouvel essai, en ms
+     * @param maxBackoff      le délai maximal entre deux essais, en ms
+     * @param meterRegistry   le registre des métriques
+     * @param clock           l'horloge (ms) des délais entre essais
+     */
+    public TicketOutboxRelay(TicketOutboxDao ticketOutboxDao, List<TicketEventSink> sinks, int batchSize,
+            long initialBackoff, long maxBackoff, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.ticketOutboxDao = ticketOutboxDao;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.deliveredCounter = meterRegistry.counter("ticket.outbox.delivered");
+        this.discardedCounter = meterRegistry.counter("ticket.outbox.discarded");
+        Gauge.builder("ticket.outbox.consecutive-failures", consecutiveFailures, AtomicInteger::get)
+                .description("Échecs consécutifs de transmission des événements de tickets")
+                .register(meterRegistry);
+        log.info("Outbox des événements de tickets: destinations {}",
+                sinks.stream().map(TicketEventSink::getName).toList());
+    }
+
+    /**
+     * Transmet les événements en attente, lot par lot, jusqu'à vider l'outbox
+     * ou rencontrer un échec
+     *
+     * @return le nombre d'événements transmis
+     */
+    @Scheduled(initialDelayString = "${ticket.outbox.poll-interval}",
+            fixedDelayString = "${ticket.outbox.poll-interval}")
+    public synchronized int relay() {
+        if (clock.getAsLong() < nextAttemptAt) {
+            return 0;
+        }
+
+        int delivered = 0;
+        List<TicketOutboxEvent> batch;
+        do {
+            batch = ticketOutboxDao.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<TicketOutboxEventDto> events = decode(batch);
+            if (events.isEmpty()) {
+                continue;
+            }
+            if (!deliver(events)) {
+                break;
+            }
+            ticketOutboxDao.deleteAllByIdInBatch(events.stream().map(TicketOutboxEventDto::id).toList());
+            deliveredCounter.increment(events.size());
+            delivered += events.size();
+        } while (batch.size() == batchSize);
+
+        if (delivered > 0) {
+            log.debug("Outbox: {} événement(s) transmis", delivered);
+        }
+        return delivered;
+    }
+
+    private boolean deliver(List<TicketOutboxEventDto> batch) {
+        for (TicketEventSink sink : sinks) {
+            long start = System.nanoTime();
+            try {
+                sink.deliver(batch);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                meterRegistry.counter("ticket.outbox.failures", "sink", sink.getName()).increment();
+                long backoff = backoff(consecutiveFailures.incrementAndGet());
+                nextAttemptAt = clock.getAsLong() + backoff;
+                log.warn("Outbox: échec de transmission vers {} ({} échec(s) consécutif(s)), "
+                        + "nouvel essai dans {} ms: {}", sink.getName(), consecutiveFailures.get(), backoff,
+                        e.getMessage());
+                return false;
+            }
+            Timer.builder("ticket.outbox.delivery")
+                    .description("Durée de transmission d'un lot d'événements de tickets")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        consecutiveFailures.set(0);
+        nextAttemptAt = 0;
+        return true;
+    }
+
+    /**
+     * Convertit un lot lu dans l'outbox ; les événements illisibles sont
+     * écartés et supprimés aussitôt, pour ne pas bloquer les suivants
+     */
+    private List<TicketOutboxEventDto> decode(List<TicketOutboxEvent> batch) {
+        List<TicketOutboxEventDto> events = new ArrayList<>(batch.size());
+        List<Long> discarded = new ArrayList<>();
+        for (TicketOutboxEvent event : batch) {
+            try {
+                events.add(toDto(event));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.error("Outbox: événement {} écarté, type {} illisible (ticket {}, {})", event.getId(),
+                        event.getEventType(), event.getTicketId(), event.getOccurredAt());
+                discarded.add(event.getId());
+            }
+        }
+        if (!discarded.isEmpty()) {
+            ticketOutboxDao.deleteAllByIdInBatch(discarded);
+            discardedCounter.increment(discarded.size());
+        }
+        return events;
+    }
+
+    private static TicketOutboxEventDto toDto(TicketOutboxEvent event) {
+        return new TicketOutboxEventDto(event.getId(), TicketEventDto.Type.valueOf(event.getEventType()),
+                event.getTicketId(), event.getOccurredAt());
+    }
+
+    private long backoff(int failures) {
+        return Math.min(maxBackoff, initialBackoff << Math.min(failures - 1, 30));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.service;
+
+import com.example.dao.TicketOutboxDao;
+import com.example.dto.TicketEventDto;
+import com.example.model.TicketOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Écriture des événements de tickets dans l'outbox
+ *
+ * Les événements sont insérés dans la transaction de la modification du
+ * ticket : ils sont validés ou annulés avec elle, et leur transmission aux
+ * systèmes en aval (TicketOutboxRelay) se fait ensuite, hors de la requête.
+ * Les IDs sont réservés par blocs et les insertions regroupées, comme pour
+ * les tickets.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketOutboxService {
+
+    private final TicketOutboxDao ticketOutboxDao;
+
+    /**
+     * Enregistre un événement par ticket dans la transaction courante
+     *
+     * @param type      le type d'événement
+     * @param ticketIds les IDs des tickets concernés
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(TicketEventDto.Type type, Collection<Integer> ticketIds) {
+        LocalDateTime now = LocalDateTime.now();
+        ticketOutboxDao.saveAll(ticketIds.stream()
+                .map(ticketId -> new TicketOutboxEvent(null, type.name(), ticketId, now))
+                .toList());
+    }
+}
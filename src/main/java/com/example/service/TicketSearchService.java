@@ -0,0 +1,284 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.dto.TicketSearchResultDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.fr.FrenchAnalyzer;
+import org.apache.lucene.analysis.fr.FrenchLightStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.ElisionFilter;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Index plein texte des tickets (titre et description)
+ *
+ * L'index Lucene est embarqué : sur disque si ticket.search.index-path est
+ * renseigné, en mémoire sinon. Il est reconstruit depuis la base au démarrage
+ * puis tenu à jour après chaque commit de création, modification ou
+ * suppression de ticket. L'analyse est adaptée au français (élisions, mots
+ * vides, accents ignorés, racinisation légère) et chaque terme recherché est
+ * aussi traité comme un préfixe.
+ */
+@Slf4j
+@Service
+public class TicketSearchService {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITRE = "titre";
+    private static final String FIELD_DESCRIPTION = "description";
+
+    /**
+     * Un terme trouvé dans le titre pèse plus lourd que dans la description
+     */
+    private static final float TITRE_BOOST = 2.0f;
+
+    private final TicketDao ticketDao;
+    private final String indexPath;
+    private final Analyzer analyzer = frenchAnalyzer();
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    public TicketSearchService(TicketDao ticketDao, @Value("${ticket.search.index-path:}") String indexPath) {
+        this.ticketDao = ticketDao;
+        this.indexPath = indexPath;
+    }
+
+    /**
+     * Ouvre l'index (le crée s'il n'existe pas)
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Valide les dernières modifications et ferme l'index
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * Reconstruit entièrement l'index à partir de la base de données
+     *
+     * @return le nombre de tickets indexés
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public long rebuildIndex() {
+        long count = 0;
+        try (Stream<Object[]> rows = ticketDao.streamSearchableFields()) {
+            indexWriter.deleteAll();
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                indexWriter.addDocument(toDocument((Integer) row[0], (String) row[1], (String) row[2]));
+                count++;
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la reconstruction de l'index de recherche", e);
+        }
+        log.info("Index de recherche reconstruit: {} ticket(s)", count);
+        return count;
+    }
+
+    /**
+     * Indexe (ou réindexe) les tickets créés ou modifiés et retire les tickets
+     * supprimés une fois la transaction validée, avec un seul rafraîchissement
+     * de l'index ; une erreur d'indexation n'annule pas l'opération métier
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER)
+    public void onTicketsChanged(TicketChangeEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    for (TicketChangeEvent.TicketState ticket : event.tickets()) {
+                        Document document = toDocument(ticket.id(), ticket.titre(), ticket.description());
+                        indexWriter.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), document);
+                    }
+                }
+                case DELETED -> indexWriter.deleteDocuments(event.ticketIds().stream()
+                        .map(ticketId -> new Term(FIELD_ID, ticketId.toString()))
+                        .toArray(Term[]::new));
+                default -> {
+                    // Résolution ou réouverture : le texte indexé ne change pas
+                    return;
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.error("Erreur lors de la mise à jour de l'index de recherche: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recherche des tickets, classés par pertinence
+     *
+     * Tous les termes doivent être présents (dans le titre ou la description),
+     * chacun pouvant n'être que le début d'un mot.
+     *
+     * @param keyword les termes recherchés
+     * @param offset  le nombre de résultats à sauter
+     * @param limit   le nombre maximum de résultats à retourner
+     * @return les IDs des tickets trouvés (du plus pertinent au moins pertinent)
+     *         et le nombre total de résultats
+     */
+    public TicketSearchResultDto search(String keyword, int offset, int limit) {
+        Query query = buildQuery(keyword);
+        if (query == null || limit < 1) {
+            return TicketSearchResultDto.empty();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int totalHits = searcher.count(query);
+                if (totalHits <= offset) {
+                    return new TicketSearchResultDto(List.of(), totalHits);
+                }
+                TopDocs topDocs = searcher.search(query, (int) Math.min((long) offset + limit, totalHits));
+                StoredFields storedFields = searcher.storedFields();
+                List<Integer> ticketIds = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    ticketIds.add(Integer.valueOf(storedFields.document(scoreDocs[i].doc).get(FIELD_ID)));
+                }
+                return new TicketSearchResultDto(ticketIds, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la recherche de tickets", e);
+        }
+    }
+
+    /**
+     * Construit la requête : un terme analysé = (terme exact OU préfixe) dans le
+     * titre ou la description ; tous les termes sont obligatoires
+     */
+    private Query buildQuery(String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder();
+            for (String field : List.of(FIELD_TITRE, FIELD_DESCRIPTION)) {
+                float boost = FIELD_TITRE.equals(field) ? TITRE_BOOST : 1.0f;
+                termQuery.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+                termQuery.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost / 2),
+                        BooleanClause.Occur.SHOULD);
+            }
+            query.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream tokens = analyzer.tokenStream(FIELD_TITRE, new StringReader(text))) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                if (!terms.contains(term.toString())) {
+                    terms.add(term.toString());
+                }
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de l'analyse des termes de recherche", e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(Integer id, String titre, String description) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITRE, titre != null ? titre : "", Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, description != null ? description : "", Field.Store.NO));
+        return document;
+    }
+
+    /**
+     * Analyseur français : élisions (l', d'...), minuscules, mots vides, accents
+     * ignorés et racinisation légère
+     */
+    private static Analyzer frenchAnalyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer source = new StandardTokenizer();
+                TokenStream result = new ElisionFilter(source, FrenchAnalyzer.DEFAULT_ARTICLES);
+                result = new LowerCaseFilter(result);
+                result = new StopFilter(result, FrenchAnalyzer.getDefaultStopSet());
+                result = new ASCIIFoldingFilter(result);
+                result = new FrenchLightStemFilter(result);
+                return new TokenStreamComponents(source, result);
+            }
+        };
+    }
+}
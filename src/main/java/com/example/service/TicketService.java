@@ -4,18 +4,34 @@ import com.example.dao.TicketDao;
 import com.example.dao.UtilisateurDao;
 import com.example.dao.PrioriteDao;
 import com.example.dao.CategorieDao;
+import com.example.dto.AuthenticatedUser;
 import com.example.dto.CreateTicketDto;
+import com.example.dto.TicketBasicDto;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketPageDto;
+import com.example.dto.TicketSearchResultDto;
 import com.example.model.Ticket;
 import com.example.model.Utilisateur;
 import com.example.model.Priorite;
 import com.example.model.Categorie;
+import com.example.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,10 +39,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class TicketService {
 
+    /**
+     * Taille de page par défaut et taille maximale autorisée pour les listes de
+     * tickets paginées
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Propriétés autorisées dans le paramètre de tri des listes paginées par
+     * numéro de page (colonnes couvertes par les index de la table ticket)
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "dateCreation", "dateResolution");
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("dateCreation"), Sort.Order.desc("id"));
+
     private final TicketDao ticketDao;
     private final UtilisateurDao utilisateurDao;
     private final PrioriteDao prioriteDao;
     private final CategorieDao categorieDao;
+    private final PrioriteService prioriteService;
+    private final CategorieService categorieService;
+    private final TicketSearchService ticketSearchService;
+    private final TicketStatsService ticketStatsService;
+    private final UnresolvedTicketQueue unresolvedTicketQueue;
+    private final TicketChangePublisher ticketChangePublisher;
 
     /**
      * Crée un nouveau ticket
@@ -37,7 +74,7 @@ public class TicketService {
      * @return le ticket créé
      */
     public Ticket createTicket(CreateTicketDto createTicketDto, Integer soumetteurId) {
-        Priorite priorite = prioriteDao.findById(createTicketDto.getPrioriteId())
+        Priorite priorite = prioriteService.getPrioriteReference(createTicketDto.getPrioriteId())
                 .orElseThrow(() -> new RuntimeException(
                         "Priorité non trouvée avec l'ID: " + createTicketDto.getPrioriteId()));
 
@@ -54,54 +91,59 @@ public class TicketService {
         }
 
         if (createTicketDto.getCategorieIds() != null && !createTicketDto.getCategorieIds().isEmpty()) {
-            List<Categorie> categories = categorieDao.findAllById(createTicketDto.getCategorieIds());
-            if (categories.size() != createTicketDto.getCategorieIds().size()) {
-                throw new RuntimeException("Une ou plusieurs catégories n'ont pas été trouvées");
-            }
-            ticket.setCategories(categories);
+            ticket.setCategories(resolveCategories(createTicketDto.getCategorieIds()));
         }
 
-        return ticketDao.save(ticket);
+        // L'ID vient d'une séquence : l'INSERT n'est envoyé qu'au flush, après
+        // la mise à jour des compteurs faite à la publication. Les verrous sur
+        // les lignes de priorité et de catégories sont ainsi pris avant ceux
+        // des clés étrangères
+        Ticket savedTicket = ticketDao.save(ticket);
+        publish(TicketEventDto.Type.CREATED, savedTicket, new ReferenceUsageService.CounterChanges()
+                .add(savedTicket, 1, 1));
+        return savedTicket;
     }
 
     /**
      * Marque un ticket comme résolu (admin seulement)
      * 
-     * @param ticketId    l'ID du ticket à résoudre
-     * @param resolveurId l'ID de l'utilisateur admin qui résout le ticket
+     * La résolution est une mise à jour conditionnelle (resolu = false) : si
+     * plusieurs administrateurs résolvent le ticket en même temps, un seul
+     * l'emporte et les autres reçoivent "Le ticket est déjà résolu".
+     * 
+     * @param ticketId      l'ID du ticket à résoudre
+     * @param resolveurUser l'administrateur authentifié qui résout le ticket
      * @return le ticket mis à jour
      */
-    public Ticket resolveTicket(Integer ticketId, Integer resolveurId) {
-        Utilisateur resolveur = utilisateurDao.findById(resolveurId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-
-        if (!resolveur.isAdmin()) {
+    public Ticket resolveTicket(Integer ticketId, AuthenticatedUser resolveurUser) {
+        if (!resolveurUser.isAdmin()) {
             throw new RuntimeException("Seuls les administrateurs peuvent résoudre des tickets");
         }
+        // Seule la clé étrangère est écrite : référence sans lecture de l'utilisateur
+        Utilisateur resolveur = utilisateurDao.getReferenceById(resolveurUser.getId());
 
-        Ticket ticket = ticketDao.findById(ticketId)
-                .orElseThrow(() -> new RuntimeException("Ticket non trouvé avec l'ID: " + ticketId));
-
-        if (ticket.isResolu()) {
+        // Compare-and-set : parmi des résolutions concurrentes, une seule modifie la ligne
+        if (ticketDao.resolveIfUnresolved(ticketId, resolveur, LocalDateTime.now()) == 0) {
+            if (!ticketDao.existsById(ticketId)) {
+                throw new RuntimeException("Ticket non trouvé avec l'ID: " + ticketId);
+            }
             throw new RuntimeException("Le ticket est déjà résolu");
         }
-
-        ticket.marquerCommeResolu(resolveur);
-
-        return ticketDao.save(ticket);
+        Ticket ticket = ticketDao.findById(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket non trouvé avec l'ID: " + ticketId));
+        publish(TicketEventDto.Type.RESOLVED, ticket, new ReferenceUsageService.CounterChanges()
+                .add(ticket, 0, -1));
+        return ticket;
     }
 
     /**
      * Rouvre un ticket résolu (admin seulement)
      * 
      * @param ticketId l'ID du ticket à rouvrir
-     * @param adminId  l'ID de l'utilisateur admin
+     * @param admin    l'administrateur authentifié
      * @return le ticket mis à jour
      */
-    public Ticket reopenTicket(Integer ticketId, Integer adminId) {
-        Utilisateur admin = utilisateurDao.findById(adminId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-
+    public Ticket reopenTicket(Integer ticketId, AuthenticatedUser admin) {
         if (!admin.isAdmin()) {
             throw new RuntimeException("Seuls les administrateurs peuvent rouvrir des tickets");
         }
@@ -117,34 +159,64 @@ public class TicketService {
         ticket.setResolveur(null);
         ticket.setDateResolution(null);
 
-        return ticketDao.save(ticket);
+        Ticket savedTicket = ticketDao.save(ticket);
+        publish(TicketEventDto.Type.REOPENED, savedTicket, new ReferenceUsageService.CounterChanges()
+                .add(savedTicket, 0, 1));
+        return savedTicket;
     }
 
     /**
-     * Récupère tous les tickets (pour utilisateurs connectés)
+     * Récupère une page de tickets, du plus récent au plus ancien
      * 
-     * @return la liste de tous les tickets
+     * Le total est lu dans les statistiques en mémoire plutôt que par un
+     * COUNT à chaque page : il est cohérent à terme (voir TicketStatsService).
+     * 
+     * @param cursor le curseur renvoyé par la page précédente (null pour la
+     *               première page)
+     * @param size   la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @return la page de tickets
      */
-    public List<Ticket> getAllTickets() {
-        return ticketDao.findAll();
+    @Transactional(readOnly = true)
+    public TicketPageDto getTicketsPage(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        List<TicketBasicDto> rows = ticketDao.findPageBefore(position.getDateCreation(), position.getId(),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, ticketStatsService.getTotalTicketCount());
     }
 
     /**
-     * Récupère tous les tickets non résolus (accessible à tous, même non connectés)
+     * Récupère une page de tickets non résolus, du plus récent au plus ancien
+     * 
+     * Le total vient des statistiques en mémoire, comme pour getTicketsPage.
      * 
-     * @return la liste des tickets non résolus
+     * @param cursor le curseur renvoyé par la page précédente (null pour la
+     *               première page)
+     * @param size   la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @return la page de tickets non résolus
      */
-    public List<Ticket> getUnresolvedTickets() {
-        return ticketDao.findByResoluFalse();
+    @Transactional(readOnly = true)
+    public TicketPageDto getUnresolvedTicketsPage(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        List<TicketBasicDto> rows = ticketDao.findUnresolvedPageBefore(position.getDateCreation(), position.getId(),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, ticketStatsService.getUnresolvedTicketCount());
     }
 
     /**
-     * Récupère tous les tickets résolus
+     * Récupère une tranche de tickets résolus
      * 
-     * @return la liste des tickets résolus
+     * @param page le numéro de page (à partir de 0)
+     * @param size la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort le critère de tri ("propriété[,asc|desc]"), du plus récent au
+     *             plus ancien par défaut
+     * @return la tranche de tickets résolus
+     * @throws IllegalArgumentException si la page ou le tri est invalide
      */
-    public List<Ticket> getResolvedTickets() {
-        return ticketDao.findByResoluTrue();
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getResolvedTickets(int page, int size, String sort) {
+        return ticketDao.findByResoluTrue(pageRequest(page, size, sort, NEWEST_FIRST));
     }
 
     /**
@@ -153,91 +225,200 @@ public class TicketService {
      * @param ticketId l'ID du ticket
      * @return le ticket s'il existe
      */
+    @Transactional(readOnly = true)
     public Optional<Ticket> getTicketById(Integer ticketId) {
         return ticketDao.findById(ticketId);
     }
 
     /**
-     * Récupère les tickets soumis par un utilisateur
+     * Récupère une page des tickets soumis par un utilisateur
      * 
      * @param utilisateurId l'ID de l'utilisateur
-     * @return la liste des tickets soumis par l'utilisateur
+     * @param cursor        le curseur renvoyé par la page précédente (null pour
+     *                      la première page)
+     * @param size          la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @return la page de tickets soumis par l'utilisateur
      */
-    public List<Ticket> getTicketsByUser(Integer utilisateurId) {
-        Utilisateur utilisateur = utilisateurDao.findById(utilisateurId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-        return ticketDao.findBySoumetteur(utilisateur);
+    @Transactional(readOnly = true)
+    public TicketPageDto getTicketsByUserPage(Integer utilisateurId, String cursor, int size) {
+        if (!utilisateurDao.existsById(utilisateurId)) {
+            throw new RuntimeException("Utilisateur non trouvé");
+        }
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = boundPageSize(size);
+        List<TicketBasicDto> rows = ticketDao.findBySoumetteurPageBefore(utilisateurId, position.getDateCreation(),
+                position.getId(), Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, ticketDao.countBySoumetteurId(utilisateurId));
     }
 
     /**
-     * Récupère les tickets résolus par un utilisateur
+     * Récupère une tranche des tickets résolus par un utilisateur
      * 
      * @param resolveurId l'ID de l'utilisateur résolveur
-     * @return la liste des tickets résolus par l'utilisateur
+     * @param page        le numéro de page (à partir de 0)
+     * @param size        la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort        le critère de tri ("propriété[,asc|desc]"), du plus
+     *                    récent au plus ancien par défaut
+     * @return la tranche de tickets résolus par l'utilisateur
+     * @throws IllegalArgumentException si la page ou le tri est invalide
      */
-    public List<Ticket> getTicketsResolvedByUser(Integer resolveurId) {
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getTicketsResolvedByUser(Integer resolveurId, int page, int size, String sort) {
+        Pageable pageable = pageRequest(page, size, sort, NEWEST_FIRST);
         Utilisateur resolveur = utilisateurDao.findById(resolveurId)
                 .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-        return ticketDao.findByResolveur(resolveur);
+        return ticketDao.findByResolveur(resolveur, pageable);
     }
 
     /**
-     * Récupère les tickets par priorité
+     * Récupère une tranche des tickets soumis ou résolus par un utilisateur
+     * 
+     * @param utilisateurId l'ID de l'utilisateur
+     * @param page          le numéro de page (à partir de 0)
+     * @param size          la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort          le critère de tri ("propriété[,asc|desc]"), du plus
+     *                      récent au plus ancien par défaut
+     * @return la tranche de tickets liés à l'utilisateur
+     * @throws IllegalArgumentException si la page ou le tri est invalide
+     */
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getTicketsInvolvingUser(Integer utilisateurId, int page, int size, String sort) {
+        Pageable pageable = pageRequest(page, size, sort, NEWEST_FIRST);
+        Utilisateur utilisateur = utilisateurDao.findById(utilisateurId)
+                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
+        return ticketDao.findTicketsByUtilisateur(utilisateur, pageable);
+    }
+
+    /**
+     * Récupère une tranche de tickets par priorité
      * 
      * @param prioriteId l'ID de la priorité
-     * @return la liste des tickets avec cette priorité
+     * @param page       le numéro de page (à partir de 0)
+     * @param size       la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort       le critère de tri ("propriété[,asc|desc]"), du plus
+     *                   récent au plus ancien par défaut
+     * @return la tranche de tickets avec cette priorité
+     * @throws IllegalArgumentException si la page ou le tri est invalide
      */
-    public List<Ticket> getTicketsByPriorite(Integer prioriteId) {
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getTicketsByPriorite(Integer prioriteId, int page, int size, String sort) {
+        Pageable pageable = pageRequest(page, size, sort, NEWEST_FIRST);
         Priorite priorite = prioriteDao.findById(prioriteId)
                 .orElseThrow(() -> new RuntimeException("Priorité non trouvée"));
-        return ticketDao.findByPriorite(priorite);
+        return ticketDao.findByPriorite(priorite, pageable);
     }
 
     /**
-     * Récupère les tickets par catégorie
+     * Récupère une tranche de tickets par catégorie
      * 
      * @param categorieId l'ID de la catégorie
-     * @return la liste des tickets contenant cette catégorie
+     * @param page        le numéro de page (à partir de 0)
+     * @param size        la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort        le critère de tri ("propriété[,asc|desc]"), du plus
+     *                    récent au plus ancien par défaut
+     * @return la tranche de tickets contenant cette catégorie
+     * @throws IllegalArgumentException si la page ou le tri est invalide
      */
-    public List<Ticket> getTicketsByCategorie(Integer categorieId) {
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getTicketsByCategorie(Integer categorieId, int page, int size, String sort) {
+        Pageable pageable = pageRequest(page, size, sort, NEWEST_FIRST);
         Categorie categorie = categorieDao.findById(categorieId)
                 .orElseThrow(() -> new RuntimeException("Catégorie non trouvée"));
-        return ticketDao.findByCategoriesContaining(categorie);
+        return ticketDao.findByCategoriesContaining(categorie, pageable);
+    }
+
+    /**
+     * Récupère une tranche de tickets créés entre deux dates
+     * 
+     * @param dateDebut la date de début
+     * @param dateFin   la date de fin
+     * @param page      le numéro de page (à partir de 0)
+     * @param size      la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort      le critère de tri ("propriété[,asc|desc]"), du plus
+     *                  récent au plus ancien par défaut
+     * @return la tranche de tickets créés dans cette période
+     * @throws IllegalArgumentException si la période, la page ou le tri est
+     *                                  invalide
+     */
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getTicketsCreatedBetween(LocalDateTime dateDebut, LocalDateTime dateFin, int page, int size,
+            String sort) {
+        if (dateFin.isBefore(dateDebut)) {
+            throw new IllegalArgumentException("La date de fin doit être postérieure à la date de début");
+        }
+        return ticketDao.findByDateCreationBetween(dateDebut, dateFin, pageRequest(page, size, sort, NEWEST_FIRST));
     }
 
     /**
-     * Recherche des tickets par mot-clé dans le titre ou la description
+     * Recherche paginée des tickets par mot-clé dans le titre ou la description
+     * (index plein texte, résultats classés par pertinence)
      * 
-     * @param keyword le mot-clé à rechercher
-     * @return la liste des tickets correspondants
+     * Sans mot-clé, retourne la liste paginée de tous les tickets.
+     * 
+     * @param keyword le ou les mots-clés à rechercher
+     * @param cursor  le curseur renvoyé par la page précédente (null pour la
+     *                première page)
+     * @param size    la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @return la page de tickets correspondants
+     * @throws IllegalArgumentException si le curseur est invalide
      */
-    public List<Ticket> searchTickets(String keyword) {
+    @Transactional(readOnly = true)
+    public TicketPageDto searchTicketsPage(String keyword, String cursor, int size) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllTickets();
+            return getTicketsPage(cursor, size);
         }
-        return ticketDao.searchByTitreOrDescription(keyword.trim());
+        int offset = decodeSearchOffset(cursor);
+        int pageSize = boundPageSize(size);
+        TicketSearchResultDto result = ticketSearchService.search(keyword.trim(), offset, pageSize);
+        List<TicketBasicDto> tickets = result.getTicketIds().isEmpty()
+                ? List.of()
+                : inRankOrder(result.getTicketIds(), ticketDao.findBasicByIdIn(result.getTicketIds()),
+                        TicketBasicDto::getId);
+        String nextCursor = offset + pageSize < result.getTotalHits() ? String.valueOf(offset + pageSize) : null;
+        return new TicketPageDto(tickets, nextCursor, result.getTotalHits());
     }
 
     /**
      * Récupère les tickets non résolus les plus anciens
      * 
+     * L'ordre est lu dans la file en mémoire des tickets non résolus ; seuls
+     * les tickets retournés sont chargés, par leur ID. Tant que la file n'est
+     * pas chargée (démarrage), la limite est appliquée dans la requête SQL.
+     * 
      * @param limit le nombre maximum de tickets à retourner
      * @return la liste des tickets les plus anciens non résolus
      */
+    @Transactional(readOnly = true)
     public List<Ticket> getOldestUnresolvedTickets(int limit) {
-        List<Ticket> tickets = ticketDao.findOldestUnresolvedTickets();
-        return tickets.stream().limit(limit).collect(Collectors.toList());
+        if (limit < 1) {
+            return List.of();
+        }
+        if (!unresolvedTicketQueue.isLoaded()) {
+            return ticketDao.findOldestUnresolvedTickets(Limit.of(limit));
+        }
+        List<Integer> ticketIds = unresolvedTicketQueue.getOldestTicketIds(limit);
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        return inRankOrder(ticketIds, ticketDao.findByIdIn(ticketIds), Ticket::getId);
     }
 
     /**
-     * Récupère les tickets résolus récemment
+     * Récupère une tranche des tickets résolus récemment
      * 
      * @param days le nombre de jours à considérer
-     * @return la liste des tickets résolus récemment
+     * @param page le numéro de page (à partir de 0)
+     * @param size la taille de page demandée (bornée à MAX_PAGE_SIZE)
+     * @param sort le critère de tri ("propriété[,asc|desc]"), du plus récemment
+     *             résolu au plus ancien par défaut
+     * @return la tranche de tickets résolus récemment
+     * @throws IllegalArgumentException si la page ou le tri est invalide
      */
-    public List<Ticket> getRecentlyResolvedTickets(int days) {
+    @Transactional(readOnly = true)
+    public Slice<Ticket> getRecentlyResolvedTickets(int days, int page, int size, String sort) {
         LocalDateTime dateLimit = LocalDateTime.now().minusDays(days);
-        return ticketDao.findRecentlyResolvedTickets(dateLimit);
+        return ticketDao.findRecentlyResolvedTickets(dateLimit,
+                pageRequest(page, size, sort, Sort.by(Sort.Order.desc("dateResolution"), Sort.Order.desc("id"))));
     }
 
     /**
@@ -245,18 +426,15 @@ public class TicketService {
      * 
      * @param ticketId  l'ID du ticket à mettre à jour
      * @param updateDto les nouvelles données
-     * @param userId    l'ID de l'utilisateur effectuant la modification
+     * @param user      l'utilisateur authentifié effectuant la modification
      * @return le ticket mis à jour
      */
-    public Ticket updateTicket(Integer ticketId, CreateTicketDto updateDto, Integer userId) {
+    public Ticket updateTicket(Integer ticketId, CreateTicketDto updateDto, AuthenticatedUser user) {
         Ticket ticket = ticketDao.findById(ticketId)
                 .orElseThrow(() -> new RuntimeException("Ticket non trouvé"));
 
-        Utilisateur utilisateur = utilisateurDao.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-
-        if (!utilisateur.isAdmin() &&
-                (ticket.getSoumetteur() == null || !ticket.getSoumetteur().getId().equals(userId))) {
+        // L'ID du soumetteur est lu sur le proxy sans charger l'utilisateur
+        if (!user.isAdmin() && (ticket.getSoumetteur() == null || !user.is(ticket.getSoumetteur().getId()))) {
             throw new RuntimeException("Vous n'avez pas le droit de modifier ce ticket");
         }
 
@@ -264,36 +442,37 @@ public class TicketService {
             throw new RuntimeException("Impossible de modifier un ticket résolu");
         }
 
+        Integer oldPrioriteId = ticket.getPriorite() != null ? ticket.getPriorite().getId() : null;
+        List<Integer> oldCategorieIds = ticket.getCategories().stream().map(Categorie::getId).distinct().toList();
+
         ticket.setTitre(updateDto.getTitre());
         ticket.setDescription(updateDto.getDescription());
 
         if (updateDto.getPrioriteId() != null) {
-            Priorite priorite = prioriteDao.findById(updateDto.getPrioriteId())
+            Priorite priorite = prioriteService.getPrioriteReference(updateDto.getPrioriteId())
                     .orElseThrow(() -> new RuntimeException("Priorité non trouvée"));
             ticket.setPriorite(priorite);
         }
 
         if (updateDto.getCategorieIds() != null) {
-            List<Categorie> categories = categorieDao.findAllById(updateDto.getCategorieIds());
-            if (categories.size() != updateDto.getCategorieIds().size()) {
-                throw new RuntimeException("Une ou plusieurs catégories n'ont pas été trouvées");
-            }
-            ticket.setCategories(categories);
+            ticket.setCategories(resolveCategories(updateDto.getCategorieIds()));
         }
 
-        return ticketDao.save(ticket);
+        Ticket savedTicket = ticketDao.save(ticket);
+        // Ticket non résolu : il passe de ses anciennes références aux nouvelles
+        publish(TicketEventDto.Type.UPDATED, savedTicket, new ReferenceUsageService.CounterChanges()
+                .add(oldPrioriteId, oldCategorieIds, -1, -1)
+                .add(savedTicket, 1, 1));
+        return savedTicket;
     }
 
     /**
      * Supprime un ticket (admin seulement)
      * 
      * @param ticketId l'ID du ticket à supprimer
-     * @param adminId  l'ID de l'utilisateur admin
+     * @param admin    l'administrateur authentifié
      */
-    public void deleteTicket(Integer ticketId, Integer adminId) {
-        Utilisateur admin = utilisateurDao.findById(adminId)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
-
+    public void deleteTicket(Integer ticketId, AuthenticatedUser admin) {
         if (!admin.isAdmin()) {
             throw new RuntimeException("Seuls les administrateurs peuvent supprimer des tickets");
         }
@@ -302,42 +481,8 @@ public class TicketService {
                 .orElseThrow(() -> new RuntimeException("Ticket non trouvé"));
 
         ticketDao.delete(ticket);
-    }
-
-    /**
-     * Compte le nombre total de tickets
-     * 
-     * @return le nombre total de tickets
-     */
-    public long getTotalTicketCount() {
-        return ticketDao.count();
-    }
-
-    /**
-     * Compte le nombre de tickets non résolus
-     * 
-     * @return le nombre de tickets non résolus
-     */
-    public long getUnresolvedTicketCount() {
-        return ticketDao.countByResoluFalse();
-    }
-
-    /**
-     * Compte le nombre de tickets résolus
-     * 
-     * @return le nombre de tickets résolus
-     */
-    public long getResolvedTicketCount() {
-        return ticketDao.countByResoluTrue();
-    }
-
-    /**
-     * Obtient les statistiques des tickets par priorité
-     * 
-     * @return la liste des statistiques par priorité
-     */
-    public List<Object[]> getTicketStatsByPriorite() {
-        return ticketDao.getTicketCountByPriorite();
+        publish(TicketEventDto.Type.DELETED, ticket, new ReferenceUsageService.CounterChanges()
+                .add(ticket, -1, ticket.isResolu() ? 0 : -1));
     }
 
     /**
@@ -349,6 +494,7 @@ public class TicketService {
      * @param isAdmin  si l'utilisateur est admin
      * @return true si l'accès est autorisé
      */
+    @Transactional(readOnly = true)
     public boolean canAccessTicket(Integer ticketId, Integer userId, boolean isAdmin) {
         Optional<Ticket> ticketOpt = ticketDao.findById(ticketId);
         if (ticketOpt.isEmpty()) {
@@ -367,4 +513,112 @@ public class TicketService {
 
         return !ticket.isResolu();
     }
-}
\ No newline at end of file
+
+    /**
+     * Résout les catégories d'un ticket depuis le cache des données de référence
+     * 
+     * @param categorieIds les IDs des catégories demandées
+     * @return la liste des catégories correspondantes
+     * @throws RuntimeException si une catégorie est introuvable ou demandée plusieurs fois
+     */
+    private List<Categorie> resolveCategories(List<Integer> categorieIds) {
+        List<Categorie> categories = new ArrayList<>();
+        categorieIds.stream()
+                .distinct()
+                .forEach(id -> categorieService.getCategorieReference(id).ifPresent(categories::add));
+        if (categories.size() != categorieIds.size()) {
+            throw new RuntimeException("Une ou plusieurs catégories n'ont pas été trouvées");
+        }
+        return categories;
+    }
+
+    /**
+     * Publie la modification d'un ticket (outbox, compteurs des références,
+     * état en mémoire et flux SSE après le commit)
+     */
+    private void publish(TicketEventDto.Type type, Ticket ticket,
+            ReferenceUsageService.CounterChanges counterChanges) {
+        ticketChangePublisher.publish(new TicketChangeEvent(type,
+                List.of(TicketChangeEvent.TicketState.of(ticket)), counterChanges));
+    }
+
+    /**
+     * Le curseur d'une recherche est la position du premier résultat de la page
+     */
+    private int decodeSearchOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Curseur de pagination invalide");
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide", e);
+        }
+    }
+
+    /**
+     * Remet des lignes chargées par ID dans l'ordre de pertinence de l'index
+     * (les tickets supprimés entre-temps sont ignorés)
+     */
+    private <T> List<T> inRankOrder(List<Integer> rankedIds, List<T> rows, Function<T, Integer> idExtractor) {
+        Map<Integer, T> rowsById = rows.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+        return rankedIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Construit la page demandée : taille bornée à MAX_PAGE_SIZE, tri limité
+     * aux propriétés indexées et départagé par l'ID pour un ordre stable d'une
+     * page à l'autre
+     */
+    private Pageable pageRequest(int page, int size, String sort, Sort defaultSort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Numéro de page invalide");
+        }
+        return PageRequest.of(page, boundPageSize(size), parseSort(sort, defaultSort));
+    }
+
+    private Sort parseSort(String sort, Sort defaultSort) {
+        if (sort == null || sort.isBlank()) {
+            return defaultSort;
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (parts.length > 2 || !SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Critère de tri invalide: " + sort);
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Critère de tri invalide: " + sort));
+        }
+        Sort requested = Sort.by(direction, property);
+        return "id".equals(property) ? requested : requested.and(Sort.by(direction, "id"));
+    }
+
+    private int boundPageSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Construit une page à partir des lignes lues (pageSize + 1 lignes au
+     * maximum, la ligne supplémentaire indiquant l'existence d'une page suivante)
+     */
+    private TicketPageDto toPage(List<TicketBasicDto> rows, int pageSize, long totalCount) {
+        if (rows.size() <= pageSize) {
+            return new TicketPageDto(rows, null, totalCount);
+        }
+        List<TicketBasicDto> tickets = rows.subList(0, pageSize);
+        TicketBasicDto last = tickets.get(pageSize - 1);
+        return new TicketPageDto(tickets, KeysetCursor.encode(last.getDateCreation(), last.getId()), totalCount);
+    }
+}
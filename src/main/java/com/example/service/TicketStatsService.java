@@ -0,0 +1,253 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Statistiques des tickets maintenues en mémoire
+ *
+ * Les compteurs globaux (total, résolus) sont mis à jour après le commit de
+ * chaque création, résolution, réouverture ou suppression de ticket, ce qui
+ * évite un COUNT sur toute la table à chaque consultation. Ils sont recalculés
+ * depuis la base au démarrage puis périodiquement
+ * (ticket.stats.reconcile-interval) afin de corriger tout écart (modification
+ * hors de TicketService...) : les valeurs sont donc cohérentes à terme.
+ *
+ * Une réconciliation ne remplace les compteurs que si aucune modification
+ * n'était en cours pendant sa lecture : chaque modification est enregistrée
+ * dès sa publication, dans la transaction, puis soldée une fois la
+ * transaction terminée (validée ou annulée). La lecture attend que les
+ * modifications en cours soient soldées, puis n'est retenue que si aucune
+ * autre n'a été publiée entre-temps ; sinon elle est recommencée. Une
+ * modification n'est ainsi jamais à la fois dans le COUNT et dans les
+ * compteurs, ni dans aucun des deux. Si l'activité empêche toute lecture
+ * stable, la réconciliation est reportée à la suivante, sauf le chargement
+ * initial, recommencé jusqu'à ce qu'il aboutisse.
+ *
+ * Les nombres de tickets par priorité et par catégorie ne sont pas dupliqués
+ * ici : ils sont lus dans les compteurs ticketCount des priorités et
+ * catégories, tenus à jour et réparés par ReferenceUsageService, qui sont
+ * aussi la source des listes par popularité.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketStatsService {
+
+    private final TicketDao ticketDao;
+    private final PrioriteService prioriteService;
+    private final CategorieService categorieService;
+    private final Object reconcileLock = new Object();
+
+    /**
+     * Lectures recommencées au plus par réconciliation périodique, quand des
+     * modifications les chevauchent
+     */
+    private static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * Attente maximale, avant chaque lecture, des modifications en cours
+     */
+    private static final long PENDING_WAIT_MILLIS = 200;
+
+    private long total;
+    private long resolved;
+    private boolean loaded;
+    private long pendingChanges;
+    private long changeSequence;
+
+    /**
+     * Recalcule tous les compteurs depuis la base de données
+     *
+     * Sans transaction englobante : chaque lecture recommencée voit les
+     * dernières modifications validées.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ticket.stats.reconcile-interval}",
+            fixedDelayString = "${ticket.stats.reconcile-interval}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS || !isLoaded(); attempt++) {
+                if (tryReconcile()) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+            log.debug("Réconciliation des statistiques reportée: modifications en cours pendant la lecture");
+        }
+    }
+
+    private boolean tryReconcile() {
+        long sequence;
+        synchronized (this) {
+            if (!awaitNoPendingChanges()) {
+                return false;
+            }
+            sequence = changeSequence;
+        }
+        long newTotal = ticketDao.count();
+        long newResolved = ticketDao.countByResoluTrue();
+
+        synchronized (this) {
+            if (pendingChanges > 0 || changeSequence != sequence) {
+                return false;
+            }
+            if (loaded && (newTotal != total || newResolved != resolved)) {
+                log.debug("Réconciliation des statistiques: total {} -> {}, résolus {} -> {}",
+                        total, newTotal, resolved, newResolved);
+            }
+            total = newTotal;
+            resolved = newResolved;
+            loaded = true;
+            return true;
+        }
+    }
+
+    /**
+     * Attend, moniteur tenu, que les modifications publiées soient soldées
+     *
+     * @return faux si des modifications sont toujours en cours
+     */
+    private boolean awaitNoPendingChanges() {
+        long deadline = System.currentTimeMillis() + PENDING_WAIT_MILLIS;
+        while (pendingChanges > 0) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return vrai si les compteurs ont été chargés depuis la base
+     */
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Enregistre une modification dès sa publication, avant le commit de sa
+     * transaction
+     *
+     * @param event la modification
+     */
+    @EventListener
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER)
+    public synchronized void onTicketsChanging(TicketChangeEvent event) {
+        pendingChanges++;
+        changeSequence++;
+    }
+
+    /**
+     * Comptabilise une modification de tickets une fois sa transaction validée
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER)
+    public void onTicketsChanged(TicketChangeEvent event) {
+        int count = event.tickets().size();
+        switch (event.type()) {
+            case CREATED -> apply(count, event.resolvedCount());
+            case RESOLVED -> apply(0, count);
+            case REOPENED -> apply(0, -count);
+            case DELETED -> apply(-count, -event.resolvedCount());
+            default -> {
+                // Modification du texte, de la priorité ou des catégories : ni
+                // le total ni les résolus ne changent
+            }
+        }
+    }
+
+    /**
+     * Solde une modification une fois sa transaction terminée, validée (après
+     * sa comptabilisation) ou annulée
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER + 1)
+    public synchronized void onTicketsSettled(TicketChangeEvent event) {
+        if (pendingChanges > 0 && --pendingChanges == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return le nombre total de tickets
+     */
+    public synchronized long getTotalTicketCount() {
+        return total;
+    }
+
+    /**
+     * @return le nombre de tickets résolus
+     */
+    public synchronized long getResolvedTicketCount() {
+        return resolved;
+    }
+
+    /**
+     * @return le nombre de tickets non résolus
+     */
+    public synchronized long getUnresolvedTicketCount() {
+        return total - resolved;
+    }
+
+    /**
+     * Nombre de tickets par priorité, pour les priorités utilisées
+     *
+     * @return la liste des lignes [nom de la priorité, nombre de tickets]
+     */
+    public List<Object[]> getTicketStatsByPriorite() {
+        return getPrioriteStats().stream()
+                .filter(row -> (Long) row[1] > 0)
+                .toList();
+    }
+
+    /**
+     * Nombre de tickets de chaque priorité (y compris les priorités
+     * inutilisées), lu dans les compteurs des priorités
+     *
+     * @return la liste des lignes [nom de la priorité, nombre de tickets], par
+     *         nombre de tickets décroissant
+     */
+    public List<Object[]> getPrioriteStats() {
+        return prioriteService.getPrioriteStats();
+    }
+
+    /**
+     * Nombre de tickets de chaque catégorie (y compris les catégories
+     * inutilisées), lu dans les compteurs des catégories
+     *
+     * @return la liste des lignes [nom de la catégorie, nombre de tickets], par
+     *         nombre de tickets décroissant
+     */
+    public List<Object[]> getCategorieStats() {
+        return categorieService.getCategorieStats();
+    }
+
+    private synchronized void apply(int totalDelta, int resolvedDelta) {
+        total += totalDelta;
+        resolved += resolvedDelta;
+    }
+}
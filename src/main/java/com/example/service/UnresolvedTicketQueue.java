@@ -0,0 +1,169 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * File en mémoire des tickets non résolus, du plus ancien au plus récent
+ *
+ * Seuls l'ID et la date de création de chaque ticket non résolu sont gardés,
+ * dans un ensemble trié lisible sans verrou : la vue de triage obtient les IDs
+ * des tickets les plus anciens sans parcourir la table. La file est tenue à
+ * jour après le commit de chaque création, résolution, réouverture ou
+ * suppression, puis recalculée depuis la base au démarrage et périodiquement
+ * (ticket.unresolved-queue.reconcile-interval), comme les statistiques.
+ *
+ * Les modifications reçues pendant la lecture de la base sont appliquées à la
+ * file courante, puis rejouées sur la nouvelle file dès son remplacement : un
+ * ticket résolu ou créé pendant une réconciliation n'est pas perdu. Ajouts et
+ * retraits étant idempotents, rejouer une modification déjà visible dans la
+ * lecture est sans effet.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnresolvedTicketQueue {
+
+    private static final Comparator<Entry> OLDEST_FIRST = Comparator
+            .comparing(Entry::dateCreation)
+            .thenComparing(Entry::ticketId);
+
+    private final TicketDao ticketDao;
+    private final Object reconcileLock = new Object();
+
+    private volatile ConcurrentSkipListSet<Entry> queue = new ConcurrentSkipListSet<>(OLDEST_FIRST);
+    private Map<Integer, Entry> entriesById = new HashMap<>();
+    private volatile boolean loaded;
+    private List<TicketChangeEvent> changesDuringReconcile;
+
+    /**
+     * Recharge la file depuis la base de données
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ticket.unresolved-queue.reconcile-interval}",
+            fixedDelayString = "${ticket.unresolved-queue.reconcile-interval}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                changesDuringReconcile = new ArrayList<>();
+            }
+            ConcurrentSkipListSet<Entry> newQueue = new ConcurrentSkipListSet<>(OLDEST_FIRST);
+            Map<Integer, Entry> newEntriesById = new HashMap<>();
+            for (Object[] row : ticketDao.findUnresolvedIdsAndDates()) {
+                Entry entry = new Entry((Integer) row[0], (LocalDateTime) row[1]);
+                newQueue.add(entry);
+                newEntriesById.put(entry.ticketId(), entry);
+            }
+
+            synchronized (this) {
+                int previousSize = entriesById.size();
+                List<TicketChangeEvent> changes = changesDuringReconcile;
+                changesDuringReconcile = null;
+                queue = newQueue;
+                entriesById = newEntriesById;
+                changes.forEach(this::apply);
+                if (loaded && entriesById.size() != previousSize) {
+                    log.debug("Réconciliation de la file des tickets non résolus: {} -> {}",
+                            previousSize, entriesById.size());
+                }
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * @return vrai si la file a été chargée depuis la base
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Ajoute les tickets créés non résolus ou rouverts à la file, et en retire
+     * les tickets résolus ou supprimés, une fois la transaction validée
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener
+    @Order(TicketChangeEvent.STATE_LISTENER_ORDER)
+    public synchronized void onTicketsChanged(TicketChangeEvent event) {
+        if (changesDuringReconcile != null) {
+            changesDuringReconcile.add(event);
+        }
+        apply(event);
+    }
+
+    private void apply(TicketChangeEvent event) {
+        switch (event.type()) {
+            case CREATED, REOPENED -> event.tickets().stream()
+                    .filter(ticket -> !ticket.resolu())
+                    .forEach(ticket -> add(new Entry(ticket.id(), ticket.dateCreation())));
+            case RESOLVED, DELETED -> remove(event.ticketIds());
+            default -> {
+                // Modification du texte, de la priorité ou des catégories : la
+                // date de création ne change pas
+            }
+        }
+    }
+
+    /**
+     * Les IDs des tickets non résolus les plus anciens
+     *
+     * @param limit le nombre maximum d'IDs à retourner
+     * @return les IDs, du ticket le plus ancien au plus récent
+     */
+    public List<Integer> getOldestTicketIds(int limit) {
+        List<Integer> ticketIds = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        Iterator<Entry> iterator = queue.iterator();
+        while (ticketIds.size() < limit && iterator.hasNext()) {
+            ticketIds.add(iterator.next().ticketId());
+        }
+        return ticketIds;
+    }
+
+    /**
+     * @return le nombre de tickets dans la file
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private synchronized void add(Entry entry) {
+        Entry previous = entriesById.put(entry.ticketId(), entry);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.add(entry);
+    }
+
+    private synchronized void remove(Collection<Integer> ticketIds) {
+        for (Integer ticketId : ticketIds) {
+            Entry entry = entriesById.remove(ticketId);
+            if (entry != null) {
+                queue.remove(entry);
+            }
+        }
+    }
+
+    private record Entry(Integer ticketId, LocalDateTime dateCreation) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.service;
+
+import com.example.dto.TicketOutboxEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Destination HTTP : envoie chaque lot en POST (tableau JSON) à
+ * ticket.outbox.webhook.url
+ *
+ * Toute réponse hors 2xx, erreur réseau ou dépassement de
+ * ticket.outbox.webhook.timeout fait renvoyer le lot.
+ */
+@Service
+@ConditionalOnProperty(name = "ticket.outbox.webhook.enabled", havingValue = "true")
+public class WebhookTicketEventSink implements TicketEventSink {
+
+    private final URI url;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    /**
+     * @param url          l'URL du webhook
+     * @param timeout      le délai maximal d'un envoi, en ms
+     * @param objectMapper l'ObjectMapper de l'application
+     */
+    public WebhookTicketEventSink(@Value("${ticket.outbox.webhook.url}") URI url,
+            @Value("${ticket.outbox.webhook.timeout}") long timeout, ObjectMapper objectMapper) {
+        this.url = url;
+        this.timeout = Duration.ofMillis(timeout);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(this.timeout)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<TicketOutboxEventDto> events) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + url + " en erreur: HTTP " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Exécution différée après le commit de la transaction courante
+ *
+ * Utilisé pour tenir à jour les structures en mémoire (index de recherche,
+ * statistiques) uniquement avec des modifications effectivement validées en
+ * base : une transaction annulée ne les modifie pas.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Exécute l'action après le commit de la transaction courante, ou
+     * immédiatement s'il n'y a pas de transaction active
+     *
+     * @param action l'action à exécuter
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
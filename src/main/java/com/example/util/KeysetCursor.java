@@ -0,0 +1,73 @@
+package com.example.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Curseur opaque de pagination par clé (keyset) sur le couple
+ * (dateCreation, id) des tickets
+ */
+public final class KeysetCursor {
+
+    /**
+     * Curseur de la première page : tous les tickets sont strictement "avant" lui
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            Integer.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime dateCreation;
+    private final Integer id;
+
+    private KeysetCursor(LocalDateTime dateCreation, Integer id) {
+        this.dateCreation = dateCreation;
+        this.id = id;
+    }
+
+    public LocalDateTime getDateCreation() {
+        return dateCreation;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Construit le curseur pointant juste après le ticket donné
+     *
+     * @param dateCreation la date de création du dernier ticket de la page courante
+     * @param id           l'ID du dernier ticket de la page courante
+     * @return le curseur encodé
+     */
+    public static String encode(LocalDateTime dateCreation, Integer id) {
+        String raw = dateCreation + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur reçu d'un client
+     *
+     * @param token le curseur encodé (null ou vide pour la première page)
+     * @return le curseur décodé
+     * @throws IllegalArgumentException si le curseur est invalide
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Curseur de pagination invalide");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide", e);
+        }
+    }
+}
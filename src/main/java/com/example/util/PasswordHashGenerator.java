@@ -1,11 +1,13 @@
 package com.example.util;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.example.config.PasswordEncoderConfig;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class PasswordHashGenerator {
 
     public static void main(String[] args) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        // Même format que l'application ({bcrypt} + hash), au coût minimal par défaut
+        PasswordEncoder encoder = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.BCRYPT, 10);
 
         String[] passwords = {
                 "admin123",
@@ -28,7 +30,7 @@ public class PasswordHashGenerator {
         }
 
         System.out.println("=".repeat(60));
-        System.out.println("Copiez ces hashes dans votre fichier data.sql");
+        System.out.println("Copiez ces hashes dans db/demo/R__donnees_demo.sql");
         System.out.println("=".repeat(60));
 
         System.out.println("\nSQL PRÊT À UTILISER :");
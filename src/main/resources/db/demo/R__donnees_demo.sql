@@ -2,7 +2,8 @@
 -- Seeders pour l'API de Gestion de Tickets
 -- ===============================================
 -- Ce fichier contient les données initiales pour tester l'application
--- Il est chargé automatiquement au démarrage de Spring Boot
+-- Migration Flyway répétable (exécutée après le schéma), chargée uniquement en
+-- développement : voir spring.flyway.locations
 
 -- ===============================================
 -- 1. UTILISATEURS
@@ -311,4 +312,4 @@ ALTER TABLE priorite ALTER COLUMN id RESTART WITH 6;
 ALTER TABLE categorie ALTER COLUMN id RESTART WITH 16;
 
 -- Reset de la séquence des tickets (dernier ID: 24)
-ALTER TABLE ticket ALTER COLUMN id RESTART WITH 25;
\ No newline at end of file
+ALTER SEQUENCE ticket_seq RESTART WITH 25;
\ No newline at end of file
@@ -0,0 +1,24 @@
+-- ===============================================
+-- Index des requêtes fréquentes sur les tickets
+-- ===============================================
+
+-- Liste paginée par curseur (ORDER BY date_creation DESC, id DESC)
+CREATE INDEX idx_ticket_date_creation ON ticket (date_creation, id);
+
+-- Tickets non résolus, triés par ancienneté (findByResoluFalse, findOldestUnresolvedTickets,
+-- findUnresolvedPageBefore, countByResoluFalse)
+CREATE INDEX idx_ticket_resolu_date_creation ON ticket (resolu, date_creation);
+
+-- Tickets résolus récemment (findRecentlyResolvedTickets)
+CREATE INDEX idx_ticket_resolu_date_resolution ON ticket (resolu, date_resolution);
+
+-- Tickets d'un utilisateur, triés par date (findBySoumetteurPageBefore, countBySoumetteurId) ;
+-- resolveur_id (findByResolveur) est déjà indexé par sa clé étrangère (index créé par H2 et MySQL)
+CREATE INDEX idx_ticket_soumetteur ON ticket (soumetteur_id, date_creation);
+
+-- Tickets par priorité, ouverts ou non (findByPriorite, findByResoluFalseAndPriorite)
+CREATE INDEX idx_ticket_priorite_resolu ON ticket (priorite_id, resolu);
+
+-- Tickets d'une catégorie (findByCategoriesContaining, statistiques par catégorie) ;
+-- l'accès par ticket utilise l'index de la clé étrangère ticket_id
+CREATE INDEX idx_ticket_categorie_categorie ON ticket_categorie (categorie_id, ticket_id);
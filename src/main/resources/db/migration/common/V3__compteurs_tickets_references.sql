@@ -0,0 +1,24 @@
+-- ===============================================
+-- Compteurs de tickets des priorités et des catégories
+-- ===============================================
+-- Tenus à jour dans la transaction de chaque création, résolution, réouverture,
+-- modification ou suppression de ticket ; recalculés au démarrage et
+-- périodiquement (ticket.reference-counters.repair-interval)
+
+ALTER TABLE priorite ADD COLUMN ticket_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE priorite ADD COLUMN unresolved_ticket_count BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE categorie ADD COLUMN ticket_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE categorie ADD COLUMN unresolved_ticket_count BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE priorite SET
+    ticket_count = (SELECT COUNT(*) FROM ticket t WHERE t.priorite_id = priorite.id),
+    unresolved_ticket_count = (SELECT COUNT(*) FROM ticket t WHERE t.priorite_id = priorite.id AND t.resolu = FALSE);
+
+UPDATE categorie SET
+    ticket_count = (SELECT COUNT(*) FROM ticket_categorie tc WHERE tc.categorie_id = categorie.id),
+    unresolved_ticket_count = (SELECT COUNT(*) FROM ticket_categorie tc JOIN ticket t ON t.id = tc.ticket_id
+                               WHERE tc.categorie_id = categorie.id AND t.resolu = FALSE);
+
+-- Catégories triées ou filtrées par popularité (/api/categories/popular, /by-popularity)
+CREATE INDEX idx_categorie_ticket_count ON categorie (ticket_count);
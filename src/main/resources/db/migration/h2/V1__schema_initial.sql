@@ -0,0 +1,51 @@
+-- ===============================================
+-- Schéma initial (H2)
+-- ===============================================
+-- Schéma des bases créées par Hibernate (ddl-auto) avant l'adoption de
+-- Flyway : IDs en IDENTITY, sans colonne de version (voir la version MySQL)
+
+CREATE TABLE utilisateur (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    pseudo VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    admin BOOLEAN NOT NULL,
+    CONSTRAINT pk_utilisateur PRIMARY KEY (id),
+    CONSTRAINT uk_utilisateur_pseudo UNIQUE (pseudo)
+);
+
+CREATE TABLE priorite (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    nom VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_priorite PRIMARY KEY (id),
+    CONSTRAINT uk_priorite_nom UNIQUE (nom)
+);
+
+CREATE TABLE categorie (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    nom VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_categorie PRIMARY KEY (id),
+    CONSTRAINT uk_categorie_nom UNIQUE (nom)
+);
+
+CREATE TABLE ticket (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    titre VARCHAR(255) NOT NULL,
+    description TEXT,
+    resolu BOOLEAN NOT NULL,
+    date_creation TIMESTAMP(6) NOT NULL,
+    date_resolution TIMESTAMP(6),
+    soumetteur_id INTEGER,
+    resolveur_id INTEGER,
+    priorite_id INTEGER NOT NULL,
+    CONSTRAINT pk_ticket PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_soumetteur FOREIGN KEY (soumetteur_id) REFERENCES utilisateur (id),
+    CONSTRAINT fk_ticket_resolveur FOREIGN KEY (resolveur_id) REFERENCES utilisateur (id),
+    CONSTRAINT fk_ticket_priorite FOREIGN KEY (priorite_id) REFERENCES priorite (id)
+);
+
+CREATE TABLE ticket_categorie (
+    ticket_id INTEGER NOT NULL,
+    categorie_id INTEGER NOT NULL,
+    CONSTRAINT fk_ticket_categorie_ticket FOREIGN KEY (ticket_id) REFERENCES ticket (id),
+    CONSTRAINT fk_ticket_categorie_categorie FOREIGN KEY (categorie_id) REFERENCES categorie (id)
+);
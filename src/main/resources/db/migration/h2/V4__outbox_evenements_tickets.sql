@@ -0,0 +1,16 @@
+-- ===============================================
+-- Outbox des événements de tickets (H2)
+-- ===============================================
+-- Écrite dans la transaction de chaque modification de ticket, vidée dans
+-- l'ordre des IDs par TicketOutboxRelay vers les destinations configurées
+
+-- IDs réservés par blocs de 50 (allocationSize de TicketOutboxEvent)
+CREATE SEQUENCE ticket_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE ticket_outbox (
+    id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    ticket_id INTEGER NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ticket_outbox PRIMARY KEY (id)
+);
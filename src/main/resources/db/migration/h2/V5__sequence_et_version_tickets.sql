@@ -0,0 +1,16 @@
+-- ===============================================
+-- Séquence des IDs et version des tickets (H2)
+-- ===============================================
+-- Absentes du schéma initial (V1), voir la version MySQL
+
+-- Verrouillage optimiste (@Version de Ticket) : les tickets existants partent
+-- de la version 0
+ALTER TABLE ticket ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- IDs des tickets réservés par blocs de 50 (allocationSize de Ticket), après
+-- le plus grand ID existant
+ALTER TABLE ticket ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE ticket_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE ticket_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM ticket);
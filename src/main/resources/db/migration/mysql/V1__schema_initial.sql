@@ -0,0 +1,54 @@
+-- ===============================================
+-- Schéma initial (MySQL)
+-- ===============================================
+-- Schéma des bases créées par Hibernate (ddl-auto=update) avant l'adoption de
+-- Flyway : IDs en AUTO_INCREMENT, sans colonne de version. Une base existante
+-- est marquée à cette version sans exécuter ce script
+-- (spring.flyway.baseline-on-migrate) : seules les migrations suivantes s'y
+-- appliquent, elles doivent donc partir exactement de ce schéma.
+
+CREATE TABLE utilisateur (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    pseudo VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    admin BIT NOT NULL,
+    CONSTRAINT pk_utilisateur PRIMARY KEY (id),
+    CONSTRAINT uk_utilisateur_pseudo UNIQUE (pseudo)
+) ENGINE=InnoDB;
+
+CREATE TABLE priorite (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    nom VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_priorite PRIMARY KEY (id),
+    CONSTRAINT uk_priorite_nom UNIQUE (nom)
+) ENGINE=InnoDB;
+
+CREATE TABLE categorie (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    nom VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_categorie PRIMARY KEY (id),
+    CONSTRAINT uk_categorie_nom UNIQUE (nom)
+) ENGINE=InnoDB;
+
+CREATE TABLE ticket (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    titre VARCHAR(255) NOT NULL,
+    description TEXT,
+    resolu BIT NOT NULL,
+    date_creation DATETIME(6) NOT NULL,
+    date_resolution DATETIME(6),
+    soumetteur_id INTEGER,
+    resolveur_id INTEGER,
+    priorite_id INTEGER NOT NULL,
+    CONSTRAINT pk_ticket PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_soumetteur FOREIGN KEY (soumetteur_id) REFERENCES utilisateur (id),
+    CONSTRAINT fk_ticket_resolveur FOREIGN KEY (resolveur_id) REFERENCES utilisateur (id),
+    CONSTRAINT fk_ticket_priorite FOREIGN KEY (priorite_id) REFERENCES priorite (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE ticket_categorie (
+    ticket_id INTEGER NOT NULL,
+    categorie_id INTEGER NOT NULL,
+    CONSTRAINT fk_ticket_categorie_ticket FOREIGN KEY (ticket_id) REFERENCES ticket (id),
+    CONSTRAINT fk_ticket_categorie_categorie FOREIGN KEY (categorie_id) REFERENCES categorie (id)
+) ENGINE=InnoDB;
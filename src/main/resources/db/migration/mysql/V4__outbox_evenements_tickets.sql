@@ -0,0 +1,21 @@
+-- ===============================================
+-- Outbox des événements de tickets (MySQL)
+-- ===============================================
+-- Écrite dans la transaction de chaque modification de ticket, vidée dans
+-- l'ordre des IDs par TicketOutboxRelay vers les destinations configurées
+
+-- IDs réservés par blocs de 50 (allocationSize de TicketOutboxEvent)
+CREATE TABLE ticket_outbox_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO ticket_outbox_seq VALUES (1);
+
+-- Pas de clé étrangère vers ticket : les événements de suppression survivent au ticket
+CREATE TABLE ticket_outbox (
+    id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    ticket_id INTEGER NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_ticket_outbox PRIMARY KEY (id)
+) ENGINE=InnoDB;
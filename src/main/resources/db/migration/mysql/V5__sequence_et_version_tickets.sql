@@ -0,0 +1,18 @@
+-- ===============================================
+-- Séquence des IDs et version des tickets (MySQL)
+-- ===============================================
+-- Absentes du schéma initial (V1), sur lequel les bases existantes sont
+-- marquées sans l'exécuter
+
+-- Verrouillage optimiste (@Version de Ticket) : les tickets existants partent
+-- de la version 0
+ALTER TABLE ticket ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- MySQL n'ayant pas de séquences, les IDs des tickets sont réservés par blocs
+-- de 50 dans cette table (allocationSize de Ticket). Elle démarre après le plus
+-- grand ID existant ; l'AUTO_INCREMENT de la colonne id n'est plus utilisé
+CREATE TABLE ticket_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO ticket_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM ticket;
@@ -0,0 +1,141 @@
+package com.example.benchmark;
+
+import com.example.filter.JwtAuthenticationFilter;
+import com.example.filter.JwtClaimsCache;
+import com.example.model.Utilisateur;
+import com.example.service.AuthService;
+import com.example.service.PasswordHashingService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark du coût d'authentification JWT par requête
+ *
+ * Compare l'ancien chemin du filtre (deux vérifications complètes de la
+ * signature, clé et parseur reconstruits à chaque appel), la vérification
+ * unique avec parseur réutilisé, et la lecture depuis le cache des tokens
+ * vérifiés. Mesure aussi la génération d'un token et le passage complet d'une
+ * requête dans JwtAuthenticationFilter.
+ *
+ * Lancement : mvn -Pbenchmark verify (voir le profil benchmark du pom.xml).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey12345678901234567890123456789012345678901234567890";
+
+    private AuthService authService;
+    private JwtClaimsCache jwtClaimsCache;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private Utilisateur utilisateur;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // Aucun hachage de mot de passe mesuré : calculs exécutés sur le thread appelant
+        authService = new AuthService(null, null,
+                new PasswordHashingService(Runnable::run, new SimpleMeterRegistry()), Runnable::run);
+        ReflectionTestUtils.setField(authService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(authService, "jwtExpirationInSeconds", 3600);
+        jwtClaimsCache = new JwtClaimsCache(authService, 10_000);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtClaimsCache);
+
+        utilisateur = new Utilisateur();
+        utilisateur.setId(1);
+        utilisateur.setPseudo("benchmark");
+        utilisateur.setAdmin(false);
+        token = authService.generateToken(utilisateur);
+    }
+
+    /**
+     * Ancien chemin : isTokenExpired puis validateToken, chacun reconstruisant
+     * la clé et le parseur
+     */
+    @Benchmark
+    public Claims legacyDoubleVerification() {
+        Claims expiryCheck = parseWithNewParser(token);
+        if (expiryCheck.getExpiration().before(new Date())) {
+            return null;
+        }
+        return parseWithNewParser(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authService.generateToken(utilisateur);
+    }
+
+    @Benchmark
+    public Claims singleVerification() {
+        return authService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerification() {
+        return jwtClaimsCache.getVerifiedClaims(token);
+    }
+
+    /**
+     * Requête complète dans le filtre, token déjà présent dans le cache (client
+     * qui réutilise son token)
+     */
+    @Benchmark
+    public Authentication filterWithCachedToken() throws ServletException, IOException {
+        return filterRequest();
+    }
+
+    /**
+     * Requête complète dans le filtre, token jamais vu (première requête d'un
+     * client)
+     */
+    @Benchmark
+    public Authentication filterWithNewToken() throws ServletException, IOException {
+        jwtClaimsCache.invalidateAll();
+        return filterRequest();
+    }
+
+    private Authentication filterRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tickets");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.benchmark;
+
+import com.example.TicketManagementApplication;
+import com.example.dto.CreateTicketDto;
+import com.example.model.Priorite;
+import com.example.model.Utilisateur;
+import com.example.service.AuthService;
+import com.example.service.PasswordHashingService;
+import com.example.service.PrioriteService;
+import com.example.service.TicketBulkService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test de charge HTTP de GET /api/tickets selon le mode d'exécution des
+ * requêtes (threads de plateforme de Tomcat ou threads virtuels)
+ *
+ * L'application est démarrée avec le profil de test sur un port aléatoire ;
+ * 200 threads clients interrogent la liste paginée des tickets. Le mode
+ * SampleTime fournit la distribution des latences (p99), le mode Throughput
+ * le débit. Le mode "virtual" nécessite Java 21 (profil Maven java21) :
+ * mvn -Pbenchmark,java21 verify -Djmh.includes=RequestThreadingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(200)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int DATASET_SIZE = 1_000;
+    private static final int BULK_SIZE = 500;
+
+    @Param({ "platform", "virtual" })
+    private String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest listRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Les threads virtuels nécessitent Java 21 (JVM actuelle : "
+                    + Runtime.version() + ")");
+        }
+
+        context = new SpringApplicationBuilder(TicketManagementApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtual,
+                        "logging.level.root=ERROR", "logging.level.com.example=ERROR")
+                .run();
+
+        AuthService authService = context.getBean(AuthService.class);
+        Utilisateur admin = PasswordHashingService.await(authService.createUser("bench_threading", "benchmark123", true));
+        String token = authService.generateToken(admin);
+
+        Priorite priorite = context.getBean(PrioriteService.class).getAllPriorites().get(0);
+        TicketBulkService ticketBulkService = context.getBean(TicketBulkService.class);
+        List<CreateTicketDto> batch = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            batch.add(new CreateTicketDto("Ticket de charge n°" + i,
+                    "Description générée pour le test de charge numéro " + i, priorite.getId(), null));
+            if (batch.size() == BULK_SIZE) {
+                ticketBulkService.createTickets(batch, admin.getId());
+                batch.clear();
+            }
+        }
+
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        listRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tickets?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listTickets() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(listRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Réponse inattendue : " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.benchmark;
+
+import com.example.TicketManagementApplication;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.dto.TicketPageDto;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.service.TicketService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark de TicketService.searchTicketsPage (première page) sur une base H2 en mémoire
+ *
+ * Le contexte Spring est démarré avec le profil de test (sans serveur web) et
+ * la base est remplie avec datasetSize tickets, dont un sur dix contient le
+ * mot-clé recherché. La taille du jeu de données se règle avec le paramètre
+ * JMH datasetSize (ex. -p datasetSize=100000).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSearchBenchmark {
+
+    private static final String KEYWORD = "lenteur";
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    @Param({ "1000", "10000" })
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private TicketService ticketService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TicketManagementApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=ERROR", "logging.level.com.example=ERROR")
+                .run();
+        ticketService = context.getBean(TicketService.class);
+
+        TicketDao ticketDao = context.getBean(TicketDao.class);
+        Priorite priorite = context.getBean(PrioriteDao.class).findAll().get(0);
+
+        List<Ticket> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < datasetSize; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitre(i % 10 == 0 ? "Problème de " + KEYWORD + " n°" + i : "Ticket de benchmark n°" + i);
+            ticket.setDescription("Description générée pour le ticket de benchmark numéro " + i);
+            ticket.setResolu(false);
+            ticket.setPriorite(priorite);
+            batch.add(ticket);
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                ticketDao.saveAll(batch);
+                batch.clear();
+            }
+        }
+        ticketDao.saveAll(batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TicketPageDto searchTickets() {
+        return ticketService.searchTicketsPage(KEYWORD, null, TicketService.DEFAULT_PAGE_SIZE);
+    }
+}
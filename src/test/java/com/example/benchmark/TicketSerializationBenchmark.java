@@ -0,0 +1,127 @@
+package com.example.benchmark;
+
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import com.example.view.TicketBasicView;
+import com.example.view.TicketDetailView;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark de la sérialisation d'une liste de tickets selon la vue
+ * Jackson utilisée (TicketBasicView pour les listes, TicketDetailView pour le
+ * détail et l'export) et le format négocié (JSON, CBOR ou Smile)
+ *
+ * Les ObjectMappers sont configurés comme ceux de l'application (vues
+ * exclusives, valeurs nulles omises, dates ISO en JSON et numériques en
+ * binaire).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketSerializationBenchmark {
+
+    @Param({ "1", "50" })
+    private int ticketCount;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectWriter basicWriter;
+    private ObjectWriter detailWriter;
+    private List<Ticket> tickets;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor()
+                    .serializationInclusion(JsonInclude.Include.NON_NULL)
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile()
+                    .serializationInclusion(JsonInclude.Include.NON_NULL)
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            default -> Jackson2ObjectMapperBuilder.json()
+                    .serializationInclusion(JsonInclude.Include.NON_NULL)
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+        };
+        basicWriter = objectMapper.writerWithView(TicketBasicView.class);
+        detailWriter = objectMapper.writerWithView(TicketDetailView.class);
+
+        Priorite priorite = new Priorite();
+        priorite.setId(1);
+        priorite.setNom("Haute");
+
+        Utilisateur soumetteur = new Utilisateur();
+        soumetteur.setId(1);
+        soumetteur.setPseudo("soumetteur");
+        Utilisateur resolveur = new Utilisateur();
+        resolveur.setId(2);
+        resolveur.setPseudo("admin");
+        resolveur.setAdmin(true);
+
+        List<Categorie> categories = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Categorie categorie = new Categorie();
+            categorie.setId(i);
+            categorie.setNom("Catégorie " + i);
+            categories.add(categorie);
+        }
+
+        tickets = new ArrayList<>();
+        for (int i = 0; i < ticketCount; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId(i);
+            ticket.setTitre("Ticket de benchmark " + i);
+            ticket.setDescription("Description du ticket de benchmark numéro " + i
+                    + ", suffisamment longue pour ressembler à un vrai ticket.");
+            ticket.setResolu(i % 2 == 0);
+            ticket.setDateCreation(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(i));
+            ticket.setPriorite(priorite);
+            ticket.setSoumetteur(soumetteur);
+            if (ticket.isResolu()) {
+                ticket.setResolveur(resolveur);
+                ticket.setDateResolution(ticket.getDateCreation().plusHours(1));
+            }
+            ticket.setCategories(categories);
+            tickets.add(ticket);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeBasicView() throws JsonProcessingException {
+        return basicWriter.writeValueAsBytes(tickets);
+    }
+
+    @Benchmark
+    public byte[] serializeDetailView() throws JsonProcessingException {
+        return detailWriter.writeValueAsBytes(tickets);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ConcurrencyLimitedDataSource
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - ConcurrencyLimitedDataSource")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 2, 50);
+    }
+
+    @Test
+    @DisplayName("Limite - Attente puis échec au-delà du nombre de permis")
+    void testGetConnection_LimitReached() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+        assertEquals(0, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Fermeture - Le permis est rendu une seule fois")
+    void testClose_ReleasesPermitOnce() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(targetConnection, times(2)).close();
+        assertSame(targetConnection, ((ConnectionProxy) connection).getTargetConnection());
+    }
+
+    @Test
+    @DisplayName("Échec - Le permis est rendu si la connexion ne peut être obtenue")
+    void testGetConnection_TargetFailure() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Base indisponible"));
+
+        // When & Then
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour PasswordEncoderConfig
+ */
+@DisplayName("Tests unitaires - PasswordEncoderConfig")
+class PasswordEncoderConfigTest {
+
+    // Hash BCrypt sans préfixe des données de démonstration ("password", coût 10)
+    private static final String LEGACY_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Test
+    @DisplayName("Hash historique - Accepté puis signalé à rehacher")
+    void testLegacyHash_MatchesAndNeedsUpgrade() {
+        PasswordEncoder passwordEncoder = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.BCRYPT, 4);
+
+        assertTrue(passwordEncoder.matches("password", LEGACY_HASH));
+        assertFalse(passwordEncoder.matches("wrong", LEGACY_HASH));
+        assertTrue(passwordEncoder.upgradeEncoding(LEGACY_HASH));
+    }
+
+    @Test
+    @DisplayName("Nouveau hash - Préfixé et à jour")
+    void testNewHash_PrefixedAndCurrent() {
+        PasswordEncoder passwordEncoder = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.BCRYPT, 5);
+
+        String hash = passwordEncoder.encode("password");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(passwordEncoder.matches("password", hash));
+        assertFalse(passwordEncoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    @DisplayName("Coût ou algorithme dépassé - Hash signalé à rehacher")
+    void testOutdatedHash_NeedsUpgrade() {
+        PasswordEncoder bcrypt4 = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.BCRYPT, 4);
+        PasswordEncoder bcrypt5 = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.BCRYPT, 5);
+        PasswordEncoder pbkdf2 = PasswordEncoderConfig.createPasswordEncoder(PasswordEncoderConfig.PBKDF2, 5);
+
+        String lowCostHash = bcrypt4.encode("password");
+
+        assertTrue(bcrypt5.upgradeEncoding(lowCostHash));
+        assertTrue(pbkdf2.upgradeEncoding(lowCostHash));
+        assertTrue(pbkdf2.matches("password", lowCostHash));
+    }
+
+    @Test
+    @DisplayName("Algorithme inconnu - Refusé")
+    void testUnknownEncodingId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PasswordEncoderConfig.createPasswordEncoder("md5", 10));
+    }
+
+    @Test
+    @DisplayName("Calibrage - Coût le plus élevé sous la durée visée, jamais sous le minimum")
+    void testCalibrateBCryptStrength() {
+        // 3 ms au coût 10 : 6 ms au coût 11, ..., 48 ms au coût 14, 96 ms au coût 15
+        assertEquals(14, PasswordEncoderConfig.calibrateBCryptStrength(50, 10, strength -> 3_000_000L));
+        // Machine lente : le coût minimal est conservé
+        assertEquals(10, PasswordEncoderConfig.calibrateBCryptStrength(50, 10, strength -> 200_000_000L));
+    }
+}
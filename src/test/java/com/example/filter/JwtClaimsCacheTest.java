@@ -0,0 +1,84 @@
+package com.example.filter;
+
+import com.example.service.AuthService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour JwtClaimsCache
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - JwtClaimsCache")
+class JwtClaimsCacheTest {
+
+    @Mock
+    private AuthService authService;
+
+    private JwtClaimsCache jwtClaimsCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtClaimsCache = new JwtClaimsCache(authService, 100);
+    }
+
+    @Test
+    @DisplayName("Token valide - Signature vérifiée une seule fois")
+    void testGetVerifiedClaims_VerifiesOnce() {
+        // Given
+        Claims claims = claimsExpiringIn(60_000);
+        when(authService.validateToken("token-valide")).thenReturn(claims);
+
+        // When
+        Claims first = jwtClaimsCache.getVerifiedClaims("token-valide");
+        Claims second = jwtClaimsCache.getVerifiedClaims("token-valide");
+
+        // Then
+        assertSame(claims, first);
+        assertSame(claims, second);
+        verify(authService, times(1)).validateToken("token-valide");
+    }
+
+    @Test
+    @DisplayName("Token invalide - L'échec n'est pas mis en cache")
+    void testGetVerifiedClaims_InvalidTokenNotCached() {
+        // Given
+        when(authService.validateToken("token-invalide")).thenThrow(new RuntimeException("Token invalide"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> jwtClaimsCache.getVerifiedClaims("token-invalide"));
+        assertThrows(RuntimeException.class, () -> jwtClaimsCache.getVerifiedClaims("token-invalide"));
+        verify(authService, times(2)).validateToken("token-invalide");
+    }
+
+    @Test
+    @DisplayName("Token arrivé à expiration - L'entrée n'est pas conservée")
+    void testGetVerifiedClaims_ExpiredEntryRevalidated() {
+        // Given
+        when(authService.validateToken("token-expirant")).thenReturn(claimsExpiringIn(0));
+
+        // When
+        jwtClaimsCache.getVerifiedClaims("token-expirant");
+        jwtClaimsCache.getVerifiedClaims("token-expirant");
+
+        // Then
+        verify(authService, times(2)).validateToken("token-expirant");
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("testuser")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+}
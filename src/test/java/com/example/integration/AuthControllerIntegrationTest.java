@@ -12,9 +12,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
@@ -25,10 +25,14 @@ import static org.junit.jupiter.api.Assertions.*;
  * 
  * Ces tests vérifient le fonctionnement complet de l'API d'authentification
  * en testant les endpoints HTTP avec le contexte Spring complet.
+ *
+ * Ces tests ne sont pas transactionnels : le serveur, qui traite les requêtes
+ * sur ses propres threads, doit voir les données validées par setUp, qui
+ * vide les tables (données initiales du démarrage comprises) avant de les
+ * recréer.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-@Transactional
 @DisplayName("Tests d'intégration - AuthController")
 class AuthControllerIntegrationTest {
 
@@ -50,6 +54,8 @@ class AuthControllerIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        // Client HTTP du JDK : HttpURLConnection ne sait pas lire une réponse 401 à un POST
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
         baseUrl = "http://localhost:" + port + "/api/auth";
 
         utilisateurDao.deleteAll();
@@ -0,0 +1,95 @@
+package com.example.integration;
+
+import com.example.config.CacheConfig;
+import com.example.model.Priorite;
+import com.example.service.PrioriteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration du cache des données de référence
+ * 
+ * Ces tests ne sont pas transactionnels : le cache ne prend en compte les
+ * écritures et invalidations qu'après le commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Tests d'intégration - Cache des données de référence")
+class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Priorite createdPriorite;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCache(CacheConfig.PRIORITES_CACHE).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (createdPriorite != null) {
+            prioriteService.deletePriorite(createdPriorite.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Lecture des priorités - La deuxième lecture ne touche pas la base")
+    void testGetAllPriorites_ServedFromCache() {
+        List<Priorite> first = prioriteService.getAllPriorites();
+
+        statistics.clear();
+        List<Priorite> second = prioriteService.getAllPriorites();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(first.size(), second.size());
+    }
+
+    @Test
+    @DisplayName("Création d'une priorité - Le cache est invalidé")
+    void testCreatePriorite_EvictsCache() {
+        int initialCount = prioriteService.getAllPriorites().size();
+        Cache cache = cacheManager.getCache(CacheConfig.PRIORITES_CACHE);
+        assertNotNull(cache.get("all"));
+
+        createdPriorite = prioriteService.createPriorite("Priorité cache test");
+
+        assertNull(cache.get("all"));
+        assertEquals(initialCount + 1, prioriteService.getAllPriorites().size());
+        assertEquals("Priorité cache test",
+                prioriteService.getPrioriteReference(createdPriorite.getId()).orElseThrow().getNom());
+    }
+
+    @Test
+    @DisplayName("Priorité inexistante - L'absence n'est pas mise en cache")
+    void testGetPrioriteReference_MissingNotCached() {
+        assertTrue(prioriteService.getPrioriteReference(Integer.MAX_VALUE).isEmpty());
+
+        assertNull(cacheManager.getCache(CacheConfig.PRIORITES_CACHE).get(Integer.MAX_VALUE));
+    }
+}
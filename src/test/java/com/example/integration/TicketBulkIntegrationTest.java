@@ -0,0 +1,247 @@
+package com.example.integration;
+
+import com.example.dao.CategorieDao;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.dto.AuthenticatedUser;
+import com.example.dto.BulkItemResultDto;
+import com.example.dto.CreateTicketDto;
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import com.example.service.CategorieService;
+import com.example.service.PrioriteService;
+import com.example.service.TicketBulkService;
+import com.example.service.TicketStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration de la création de tickets par lots
+ * 
+ * Ces tests ne sont pas transactionnels afin de mesurer les requêtes
+ * réellement envoyées à la base lors du commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Tests d'intégration - Création de tickets par lots")
+class TicketBulkIntegrationTest {
+
+    private static final int TICKET_COUNT = 40;
+
+    @Autowired
+    private TicketBulkService ticketBulkService;
+
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private CategorieService categorieService;
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private UtilisateurDao utilisateurDao;
+
+    @Autowired
+    private PrioriteDao prioriteDao;
+
+    @Autowired
+    private CategorieDao categorieDao;
+
+    @Autowired
+    private TicketStatsService ticketStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Priorite priorite;
+    private Categorie categorie1;
+    private Categorie categorie2;
+    private Utilisateur admin;
+    private final List<Integer> createdTicketIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        priorite = prioriteService.createPriorite("Priorité lot test");
+        categorie1 = categorieService.createCategorie("Catégorie lot test 1");
+        categorie2 = categorieService.createCategorie("Catégorie lot test 2");
+
+        admin = new Utilisateur();
+        admin.setPseudo("admin-lot-test");
+        admin.setPassword("password");
+        admin.setAdmin(true);
+        admin = utilisateurDao.save(admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketDao.deleteAllById(createdTicketIds);
+        categorieService.deleteCategorie(categorie1.getId());
+        categorieService.deleteCategorie(categorie2.getId());
+        prioriteService.deletePriorite(priorite.getId());
+        utilisateurDao.delete(admin);
+    }
+
+    @Test
+    @DisplayName("Création par lot - Insertions regroupées et résultat par ticket")
+    void testCreateTickets_BatchedInserts() {
+        // Given
+        List<CreateTicketDto> dtos = validTickets();
+        dtos.add(new CreateTicketDto("Ko", "Titre trop court pour être valide", priorite.getId(), null));
+        dtos.add(new CreateTicketDto("Catégorie inconnue", "Ticket avec une catégorie inexistante",
+                priorite.getId(), List.of(-1)));
+
+        // When
+        statistics.clear();
+        List<BulkItemResultDto> results = ticketBulkService.createTickets(dtos, null);
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(TICKET_COUNT + 2, results.size());
+        results.stream().filter(BulkItemResultDto::isSuccess).forEach(r -> createdTicketIds.add(r.getTicketId()));
+        assertEquals(TICKET_COUNT, createdTicketIds.size());
+        assertEquals(TICKET_COUNT, createdTicketIds.stream().distinct().count());
+
+        BulkItemResultDto invalid = results.get(TICKET_COUNT);
+        assertFalse(invalid.isSuccess());
+        assertEquals(TICKET_COUNT, invalid.getIndex());
+        assertEquals("Le titre doit contenir entre 3 et 100 caractères", invalid.getError());
+        assertEquals("Une ou plusieurs catégories n'ont pas été trouvées", results.get(TICKET_COUNT + 1).getError());
+
+        // 40 tickets et 80 lignes ticket_categorie : bien moins d'une requête par ligne
+        assertTrue(statements < TICKET_COUNT / 2, "Requêtes préparées: " + statements);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Ticket ticket = ticketDao.findById(createdTicketIds.get(0)).orElseThrow();
+            assertEquals(2, ticket.getCategories().size());
+            assertEquals(priorite.getId(), ticket.getPriorite().getId());
+        });
+    }
+
+    @Test
+    @DisplayName("Résolution et réouverture par lot - Une requête ensembliste, tickets ignorés signalés")
+    void testResolveAndReopenTickets() {
+        // Given
+        createTickets();
+        long resolvedBefore = ticketStatsService.getResolvedTicketCount();
+        List<Integer> ids = new ArrayList<>(createdTicketIds);
+        ids.add(-1);
+        ids.add(createdTicketIds.get(0));
+
+        // When
+        statistics.clear();
+        List<BulkItemResultDto> results = ticketBulkService.resolveTickets(ids, principal());
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(TICKET_COUNT, results.stream().filter(BulkItemResultDto::isSuccess).count());
+        assertEquals("Ticket non trouvé avec l'ID: -1", results.get(TICKET_COUNT).getError());
+        assertEquals("Ticket présent plusieurs fois dans le lot", results.get(TICKET_COUNT + 1).getError());
+        // Verrouillage, mise à jour des tickets, catégories du lot, deux mises à jour de compteurs
+        // et outbox (bloc d'IDs et insertion groupée) ; l'administrateur n'est pas relu en base
+        assertTrue(statements <= 7, "Requêtes préparées: " + statements);
+        assertEquals(resolvedBefore + TICKET_COUNT, ticketStatsService.getResolvedTicketCount());
+        assertCounters(TICKET_COUNT, 0);
+        assertEquals(TICKET_COUNT, ticketDao.findAllById(createdTicketIds).stream()
+                .filter(ticket -> ticket.isResolu() && ticket.getDateResolution() != null).count());
+
+        // When
+        List<BulkItemResultDto> alreadyResolved = ticketBulkService.resolveTickets(createdTicketIds.subList(0, 1),
+                principal());
+        List<BulkItemResultDto> reopened = ticketBulkService.reopenTickets(createdTicketIds, principal());
+
+        // Then
+        assertEquals("Le ticket est déjà résolu", alreadyResolved.get(0).getError());
+        assertTrue(reopened.stream().allMatch(BulkItemResultDto::isSuccess));
+        assertEquals(resolvedBefore, ticketStatsService.getResolvedTicketCount());
+        assertCounters(TICKET_COUNT, TICKET_COUNT);
+    }
+
+    @Test
+    @DisplayName("Suppression par lot - Tickets et associations supprimés")
+    void testDeleteTickets() {
+        // Given
+        createTickets();
+        long totalBefore = ticketStatsService.getTotalTicketCount();
+
+        // When
+        statistics.clear();
+        List<BulkItemResultDto> results = ticketBulkService.deleteTickets(createdTicketIds, principal());
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertTrue(results.stream().allMatch(BulkItemResultDto::isSuccess));
+        // Dont l'outbox : bloc d'IDs et insertion groupée
+        assertTrue(statements <= 8, "Requêtes préparées: " + statements);
+        assertTrue(ticketDao.findAllById(createdTicketIds).isEmpty());
+        assertEquals(totalBefore - TICKET_COUNT, ticketStatsService.getTotalTicketCount());
+        assertCounters(0, 0);
+        createdTicketIds.clear();
+    }
+
+    @Test
+    @DisplayName("Opération par lot - Refusée aux non-administrateurs")
+    void testResolveTickets_NotAdmin() {
+        // Given
+        admin.setAdmin(false);
+        admin = utilisateurDao.save(admin);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> ticketBulkService.resolveTickets(List.of(1), principal()));
+        assertEquals("Seuls les administrateurs peuvent résoudre des tickets", exception.getMessage());
+    }
+
+    private List<CreateTicketDto> validTickets() {
+        List<CreateTicketDto> dtos = new ArrayList<>();
+        for (int i = 0; i < TICKET_COUNT; i++) {
+            dtos.add(new CreateTicketDto("Ticket lot " + i, "Ticket créé par un lot d'intégration",
+                    priorite.getId(), List.of(categorie1.getId(), categorie2.getId())));
+        }
+        return dtos;
+    }
+
+    private AuthenticatedUser principal() {
+        return new AuthenticatedUser(admin.getId(), admin.isAdmin());
+    }
+
+    private void assertCounters(long ticketCount, long unresolvedTicketCount) {
+        Priorite storedPriorite = prioriteDao.findById(priorite.getId()).orElseThrow();
+        assertEquals(ticketCount, storedPriorite.getTicketCount());
+        assertEquals(unresolvedTicketCount, storedPriorite.getUnresolvedTicketCount());
+        for (Categorie categorie : categorieDao.findAllById(List.of(categorie1.getId(), categorie2.getId()))) {
+            assertEquals(ticketCount, categorie.getTicketCount());
+            assertEquals(unresolvedTicketCount, categorie.getUnresolvedTicketCount());
+        }
+    }
+
+    private void createTickets() {
+        ticketBulkService.createTickets(validTickets(), null)
+                .forEach(result -> createdTicketIds.add(result.getTicketId()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.integration;
+
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.dto.AuthenticatedUser;
+import com.example.dto.CreateTicketDto;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import com.example.service.PrioriteService;
+import com.example.service.TicketService;
+import com.example.service.TicketStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration des modifications concurrentes d'un ticket
+ * 
+ * Ces tests ne sont pas transactionnels : chaque appel au service s'exécute
+ * dans sa propre transaction, comme une requête HTTP.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Modifications concurrentes des tickets")
+class TicketConcurrencyIntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketStatsService ticketStatsService;
+
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private UtilisateurDao utilisateurDao;
+
+    private Priorite priorite;
+    private final List<Utilisateur> admins = new ArrayList<>();
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        priorite = prioriteService.createPriorite("Priorité concurrence test");
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Utilisateur admin = new Utilisateur();
+            admin.setPseudo("admin-concurrence-" + i);
+            admin.setPassword("password");
+            admin.setAdmin(true);
+            admins.add(utilisateurDao.save(admin));
+        }
+        ticket = ticketService.createTicket(new CreateTicketDto("Ticket concurrence",
+                "Ticket résolu par plusieurs administrateurs à la fois", priorite.getId(), null), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketDao.deleteById(ticket.getId());
+        utilisateurDao.deleteAll(admins);
+        prioriteService.deletePriorite(priorite.getId());
+    }
+
+    @Test
+    @DisplayName("Résolutions concurrentes - Un seul administrateur l'emporte")
+    void testConcurrentResolve_SingleWinner() throws Exception {
+        // Given
+        long resolvedBefore = ticketStatsService.getResolvedTicketCount();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Ticket>> futures = new ArrayList<>();
+        for (Utilisateur admin : admins) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return ticketService.resolveTicket(ticket.getId(), new AuthenticatedUser(admin.getId(), true));
+            }));
+        }
+
+        // When
+        start.countDown();
+        List<Ticket> winners = new ArrayList<>();
+        int conflicts = 0;
+        for (Future<Ticket> future : futures) {
+            try {
+                winners.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertEquals("Le ticket est déjà résolu", e.getCause().getMessage());
+                conflicts++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, winners.size());
+        assertEquals(THREAD_COUNT - 1, conflicts);
+
+        Ticket resolved = ticketDao.findById(ticket.getId()).orElseThrow();
+        assertTrue(resolved.isResolu());
+        assertEquals(winners.get(0).getResolveur().getId(), resolved.getResolveur().getId());
+        assertEquals(ticket.getVersion() + 1, resolved.getVersion());
+        assertEquals(resolvedBefore + 1, ticketStatsService.getResolvedTicketCount());
+    }
+
+    @Test
+    @DisplayName("Modification d'une version périmée - Conflit détecté")
+    void testStaleUpdate_Rejected() {
+        // Given
+        Ticket stale = ticketDao.findById(ticket.getId()).orElseThrow();
+        ticketService.resolveTicket(ticket.getId(), new AuthenticatedUser(admins.get(0).getId(), true));
+
+        // When & Then
+        stale.setTitre("Modification perdue");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> ticketDao.save(stale));
+        assertTrue(ticketDao.findById(ticket.getId()).orElseThrow().isResolu());
+    }
+}
@@ -11,7 +11,10 @@ import com.example.dao.UtilisateurDao;
 import com.example.dao.TicketDao;
 import com.example.dao.PrioriteDao;
 import com.example.dao.CategorieDao;
+import com.example.service.PrioriteService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +23,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.jdbc.JdbcTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -36,10 +40,14 @@ import static org.junit.jupiter.api.Assertions.*;
  * 
  * Ces tests vérifient le fonctionnement complet de l'API de gestion des tickets
  * en testant les endpoints HTTP avec le contexte Spring complet.
+ *
+ * Ces tests ne sont pas transactionnels : le serveur, qui traite les requêtes
+ * sur ses propres threads, doit voir les données validées par setUp, qui
+ * vide les tables (données initiales du démarrage comprises) avant de les
+ * recréer.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-@Transactional
 @DisplayName("Tests d'intégration - TicketController")
 class TicketControllerIntegrationTest {
 
@@ -64,8 +72,15 @@ class TicketControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String baseUrl;
     private String authUrl;
+    private String prioritesUrl;
     private Utilisateur testUser;
     private Utilisateur testAdmin;
     private Priorite testPriorite;
@@ -78,8 +93,9 @@ class TicketControllerIntegrationTest {
     void setUp() {
         baseUrl = "http://localhost:" + port + "/api/tickets";
         authUrl = "http://localhost:" + port + "/api/auth";
+        prioritesUrl = "http://localhost:" + port + "/api/priorites";
 
-        ticketDao.deleteAll();
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "ticket_categorie", "ticket");
         categorieDao.deleteAll();
         prioriteDao.deleteAll();
         utilisateurDao.deleteAll();
@@ -160,6 +176,270 @@ class TicketControllerIntegrationTest {
         assertFalse(response.getBody().isEmpty());
     }
 
+    @Test
+    @DisplayName("GET /api/tickets/unresolved - Réponse CBOR avec la vue de liste")
+    void testGetUnresolvedTickets_Cbor() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                request,
+                byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_CBOR.isCompatibleWith(response.getHeaders().getContentType()));
+
+        List<Map<String, Object>> tickets = new CBORMapper().readValue(response.getBody(),
+                new TypeReference<List<Map<String, Object>>>() {
+                });
+        assertEquals(1, tickets.size());
+        assertEquals("Ticket de test", tickets.get(0).get("titre"));
+        assertInstanceOf(List.class, tickets.get(0).get("dateCreation"));
+        // Les catégories n'appartiennent qu'à la vue détaillée
+        assertFalse(tickets.get(0).containsKey("categories"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/unresolved - 304 tant qu'aucun ticket n'est modifié")
+    void testGetUnresolvedTickets_ConditionalGet() {
+        ResponseEntity<List> first = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()),
+                List.class);
+        String eTag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(eTag);
+        assertTrue(first.getHeaders().getLastModified() > 0);
+
+        HttpHeaders conditionalHeaders = new HttpHeaders();
+        conditionalHeaders.setIfNoneMatch(eTag);
+        ResponseEntity<List> notModified = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                List.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+
+        ResponseEntity<Map> resolveResponse = restTemplate.exchange(
+                baseUrl + "/" + testTicket.getId() + "/resolve",
+                HttpMethod.PUT,
+                new HttpEntity<>(createAuthHeaders(adminToken)),
+                Map.class);
+        assertEquals(HttpStatus.OK, resolveResponse.getStatusCode());
+
+        ResponseEntity<List> modified = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                List.class);
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertNotEquals(eTag, modified.getHeaders().getETag());
+        assertTrue(modified.getBody().isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/unresolved - Un ETag par format, Vary: Accept")
+    void testGetUnresolvedTickets_ETagPerRepresentation() {
+        HttpHeaders cborHeaders = new HttpHeaders();
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        ResponseEntity<byte[]> json = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()),
+                byte[].class);
+        ResponseEntity<byte[]> cbor = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                byte[].class);
+        assertEquals(HttpStatus.OK, cbor.getStatusCode());
+        assertNotEquals(json.getHeaders().getETag(), cbor.getHeaders().getETag());
+        assertTrue(json.getHeaders().getVary().contains(HttpHeaders.ACCEPT));
+        assertTrue(cbor.getHeaders().getVary().contains(HttpHeaders.ACCEPT));
+
+        // L'ETag du JSON ne valide pas la représentation CBOR
+        cborHeaders.setIfNoneMatch(json.getHeaders().getETag());
+        ResponseEntity<byte[]> cborRevalidated = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                byte[].class);
+        assertEquals(HttpStatus.OK, cborRevalidated.getStatusCode());
+
+        cborHeaders.setIfNoneMatch(cbor.getHeaders().getETag());
+        ResponseEntity<byte[]> cborNotModified = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                byte[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, cborNotModified.getStatusCode());
+        assertTrue(cborNotModified.getHeaders().getVary().contains(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/public - 304 sur If-Modified-Since tant qu'aucun ticket n'est modifié")
+    void testGetPublicTickets_IfModifiedSince() {
+        ResponseEntity<List> first = restTemplate.exchange(
+                baseUrl + "/public",
+                HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()),
+                List.class);
+        long lastModified = first.getHeaders().getLastModified();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertTrue(lastModified > 0);
+
+        HttpHeaders conditionalHeaders = new HttpHeaders();
+        conditionalHeaders.setIfModifiedSince(lastModified);
+        ResponseEntity<List> notModified = restTemplate.exchange(
+                baseUrl + "/public",
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                List.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(first.getHeaders().getETag(), notModified.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("GET /api/priorites - 304 jusqu'à la modification d'une priorité, qui change aussi l'ETag des tickets")
+    void testGetPriorites_ConditionalGet() {
+        HttpHeaders userHeaders = createAuthHeaders(userToken);
+        ResponseEntity<List> priorites = restTemplate.exchange(
+                prioritesUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(userHeaders),
+                List.class);
+        String prioritesETag = priorites.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, priorites.getStatusCode());
+        assertNotNull(prioritesETag);
+        String ticketsETag = restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()),
+                List.class).getHeaders().getETag();
+
+        HttpHeaders conditionalHeaders = createAuthHeaders(userToken);
+        conditionalHeaders.setIfNoneMatch(prioritesETag);
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(
+                prioritesUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                List.class).getStatusCode());
+
+        prioriteService.updatePriorite(testPriorite.getId(), "Très haute");
+
+        ResponseEntity<List> modified = restTemplate.exchange(
+                prioritesUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                List.class);
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertNotEquals(prioritesETag, modified.getHeaders().getETag());
+
+        // Les tickets affichent le nom de leur priorité : leur ETag change aussi
+        HttpHeaders ticketsConditionalHeaders = new HttpHeaders();
+        ticketsConditionalHeaders.setIfNoneMatch(ticketsETag);
+        assertEquals(HttpStatus.OK, restTemplate.exchange(
+                baseUrl + "/unresolved",
+                HttpMethod.GET,
+                new HttpEntity<>(ticketsConditionalHeaders),
+                List.class).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/{id} - 304 tant que le ticket n'est pas modifié, sans ETag sur un 404")
+    void testGetTicketById_ConditionalGet() {
+        ResponseEntity<Map> ticket = restTemplate.exchange(
+                baseUrl + "/" + testTicket.getId(),
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(userToken)),
+                Map.class);
+        String eTag = ticket.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, ticket.getStatusCode());
+        assertNotNull(eTag);
+        assertTrue(ticket.getHeaders().getCacheControl().contains("private"));
+
+        HttpHeaders conditionalHeaders = createAuthHeaders(userToken);
+        conditionalHeaders.setIfNoneMatch(eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(
+                baseUrl + "/" + testTicket.getId(),
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                Map.class).getStatusCode());
+
+        // Le 404 est vérifié avant l'ETag du client, et ne porte pas d'ETag
+        ResponseEntity<Map> notFound = restTemplate.exchange(
+                baseUrl + "/99999",
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                Map.class);
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertNull(notFound.getHeaders().getETag());
+
+        restTemplate.exchange(
+                baseUrl + "/" + testTicket.getId() + "/resolve",
+                HttpMethod.PUT,
+                new HttpEntity<>(createAuthHeaders(adminToken)),
+                Map.class);
+
+        ResponseEntity<Map> modified = restTemplate.exchange(
+                baseUrl + "/" + testTicket.getId(),
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                Map.class);
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertEquals(true, modified.getBody().get("resolu"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/priorite/{id} et /api/priorites/stats - 304, puis 200 après un nouveau ticket")
+    void testGetPrioriteReads_ConditionalGet() {
+        String slicesUrl = baseUrl + "/priorite/" + testPriorite.getId();
+        String statsUrl = prioritesUrl + "/stats";
+        String sliceETag = restTemplate.exchange(slicesUrl, HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(userToken)), List.class).getHeaders().getETag();
+        ResponseEntity<List> initialStats = restTemplate.exchange(statsUrl, HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(userToken)), List.class);
+        String statsETag = initialStats.getHeaders().getETag();
+        assertNotNull(sliceETag);
+        assertNotNull(statsETag);
+
+        HttpHeaders sliceHeaders = createAuthHeaders(userToken);
+        sliceHeaders.setIfNoneMatch(sliceETag);
+        HttpHeaders statsHeaders = createAuthHeaders(userToken);
+        statsHeaders.setIfNoneMatch(statsETag);
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(slicesUrl, HttpMethod.GET,
+                new HttpEntity<>(sliceHeaders), List.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(statsUrl, HttpMethod.GET,
+                new HttpEntity<>(statsHeaders), List.class).getStatusCode());
+
+        // Un nouveau ticket change la tranche et le compteur de la priorité
+        CreateTicketDto createTicketDto = new CreateTicketDto();
+        createTicketDto.setTitre("Nouveau ticket");
+        createTicketDto.setDescription("Description du nouveau ticket");
+        createTicketDto.setPrioriteId(testPriorite.getId());
+        createTicketDto.setCategorieIds(List.of(testCategorie.getId()));
+        assertEquals(HttpStatus.CREATED, restTemplate.exchange(baseUrl, HttpMethod.POST,
+                new HttpEntity<>(createTicketDto, createAuthHeaders(userToken)), Map.class).getStatusCode());
+
+        ResponseEntity<List> slice = restTemplate.exchange(slicesUrl, HttpMethod.GET,
+                new HttpEntity<>(sliceHeaders), List.class);
+        assertEquals(HttpStatus.OK, slice.getStatusCode());
+        assertEquals(2, slice.getBody().size());
+        ResponseEntity<List> stats = restTemplate.exchange(statsUrl, HttpMethod.GET,
+                new HttpEntity<>(statsHeaders), List.class);
+        assertEquals(HttpStatus.OK, stats.getStatusCode());
+        assertEquals(ticketCount(initialStats) + 1, ticketCount(stats));
+    }
+
+    private static long ticketCount(ResponseEntity<List> prioriteStats) {
+        return ((Number) ((List) prioriteStats.getBody().get(0)).get(1)).longValue();
+    }
+
     @Test
     @DisplayName("GET /api/tickets/public - Alias pour l'accès public")
     void testGetPublicTickets() {
@@ -458,6 +738,53 @@ class TicketControllerIntegrationTest {
         assertEquals("Accès refusé", error.get("error"));
     }
 
+    @Test
+    @DisplayName("GET /api/tickets/priorite/{prioriteId} - Tickets d'une priorité, page bornée")
+    void testGetTicketsByPriorite_Paged() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<List> response = restTemplate.exchange(
+                baseUrl + "/priorite/" + testPriorite.getId() + "?page=0&size=1000&sort=dateCreation,desc",
+                HttpMethod.GET,
+                request,
+                List.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertNull(response.getHeaders().getFirst("X-Next-Page"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/categorie/{categorieId} - Tri non autorisé refusé")
+    void testGetTicketsByCategorie_InvalidSort() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl + "/categorie/" + testCategorie.getId() + "?sort=description",
+                HttpMethod.GET,
+                request,
+                Map.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/user/{userId}/resolved - Refus d'accès aux tickets d'autrui")
+    void testGetTicketsResolvedByUser_OtherUser() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl + "/user/" + testAdmin.getId() + "/resolved",
+                HttpMethod.GET,
+                request,
+                Map.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+
     @Test
     @DisplayName("GET /api/tickets/search - Recherche de tickets")
     void testSearchTickets() {
@@ -0,0 +1,221 @@
+package com.example.integration;
+
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.dto.AuthResponseDto;
+import com.example.dto.AuthenticatedUser;
+import com.example.dto.CreateTicketDto;
+import com.example.dto.LoginRequestDto;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import com.example.service.PrioriteService;
+import com.example.service.TicketEventStream;
+import com.example.service.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration du flux Server-Sent Events /api/tickets/events
+ *
+ * Ces tests ne sont pas transactionnels : les événements ne sont diffusés
+ * qu'après le commit des modifications.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Flux des événements de tickets")
+class TicketEventStreamIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketEventStream ticketEventStream;
+
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private UtilisateurDao utilisateurDao;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private Priorite priorite;
+    private Utilisateur admin;
+    private String token;
+    private final List<Integer> ticketIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        priorite = prioriteService.createPriorite("Priorité événements test");
+        admin = new Utilisateur();
+        admin.setPseudo("admin-evenements");
+        admin.setPassword(passwordEncoder.encode("admin123"));
+        admin.setAdmin(true);
+        admin = utilisateurDao.save(admin);
+
+        LoginRequestDto loginRequest = new LoginRequestDto();
+        loginRequest.setPseudo("admin-evenements");
+        loginRequest.setPassword("admin123");
+        token = restTemplate.postForEntity("http://localhost:" + port + "/api/auth/login", loginRequest,
+                AuthResponseDto.class).getBody().getToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketDao.deleteAllById(ticketIds);
+        utilisateurDao.delete(admin);
+        prioriteService.deletePriorite(priorite.getId());
+    }
+
+    @Test
+    @DisplayName("Flux - Événements poussés après commit, reprise par Last-Event-ID")
+    void testEvents_LiveAndResume() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            Ticket ticket;
+            Map<String, String> created;
+            int subscribers = ticketEventStream.getSubscriberCount();
+            try (Stream<String> lines = openStream(null)) {
+                Iterator<String> events = lines.iterator();
+
+                // Le ticket n'est créé qu'une fois la connexion inscrite au flux
+                awaitSubscriberCountAbove(subscribers);
+                ticket = createTicket();
+                created = nextEvent(events);
+                assertEquals("ticket", created.get("event"));
+                assertEvent(created, "CREATED", ticket.getId());
+
+                ticketService.resolveTicket(ticket.getId(), new AuthenticatedUser(admin.getId(), true));
+                assertEvent(nextEvent(events), "RESOLVED", ticket.getId());
+            }
+
+            // Reconnexion : l'événement manqué depuis la création est renvoyé
+            ticketService.reopenTicket(ticket.getId(), new AuthenticatedUser(admin.getId(), true));
+            try (Stream<String> lines = openStream(created.get("id"))) {
+                Iterator<String> events = lines.iterator();
+                assertEvent(nextEvent(events), "RESOLVED", ticket.getId());
+                assertEvent(nextEvent(events), "REOPENED", ticket.getId());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Reprise impossible - Événement resync")
+    void testEvents_UnknownLastEventId_Resync() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (Stream<String> lines = openStream("execution-precedente-42")) {
+                assertEquals("resync", nextEvent(lines.iterator()).get("event"));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Flux sans authentification - Refusé")
+    void testEvents_Unauthenticated() throws Exception {
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(eventsUrl())).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertTrue(response.statusCode() == 401 || response.statusCode() == 403);
+    }
+
+    private Ticket createTicket() {
+        Ticket ticket = ticketService.createTicket(new CreateTicketDto("Ticket événements",
+                "Ticket suivi par le flux des événements", priorite.getId(), null), null);
+        ticketIds.add(ticket.getId());
+        return ticket;
+    }
+
+    private String eventsUrl() {
+        return "http://localhost:" + port + "/api/tickets/events";
+    }
+
+    private Stream<String> openStream(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(eventsUrl()))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.GET().build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private void awaitSubscriberCountAbove(int count) throws InterruptedException {
+        while (ticketEventStream.getSubscriberCount() <= count) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Lit l'événement suivant du flux, en ignorant les commentaires et les
+     * blocs sans nom d'événement (ouverture, maintien de connexion)
+     */
+    private static Map<String, String> nextEvent(Iterator<String> lines) {
+        Map<String, String> fields = new HashMap<>();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                if (fields.containsKey("event")) {
+                    return fields;
+                }
+                fields.clear();
+            } else if (!line.startsWith(":")) {
+                int separator = line.indexOf(':');
+                fields.put(line.substring(0, separator), line.substring(separator + 1).trim());
+            }
+        }
+        throw new AssertionError("Flux des événements interrompu");
+    }
+
+    private void assertEvent(Map<String, String> event, String type, Integer ticketId) throws Exception {
+        Map<?, ?> data = objectMapper.readValue(event.get("data"), Map.class);
+        assertEquals(type, data.get("type"));
+        assertEquals(ticketId, data.get("ticketId"));
+        assertNotNull(event.get("id"));
+    }
+}
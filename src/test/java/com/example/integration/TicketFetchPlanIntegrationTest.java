@@ -0,0 +1,182 @@
+package com.example.integration;
+
+import com.example.dao.CategorieDao;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.dto.TicketBasicDto;
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import com.example.service.TicketExportService;
+import com.example.util.KeysetCursor;
+import com.example.view.TicketDetailView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration du plan de chargement des tickets
+ *
+ * Ces tests comptent les requêtes SQL exécutées (statistiques Hibernate) pour
+ * vérifier que le rendu d'une liste de N tickets coûte un nombre constant de
+ * requêtes, quel que soit N.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@DisplayName("Tests d'intégration - Plan de chargement des tickets")
+class TicketFetchPlanIntegrationTest {
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private UtilisateurDao utilisateurDao;
+
+    @Autowired
+    private PrioriteDao prioriteDao;
+
+    @Autowired
+    private CategorieDao categorieDao;
+
+    @Autowired
+    private TicketExportService ticketExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Priorite priorite;
+    private List<Categorie> categories;
+    private List<Utilisateur> soumetteurs;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "ticket_categorie", "ticket");
+
+        Priorite nouvellePriorite = new Priorite();
+        nouvellePriorite.setNom("Priorité plan de chargement");
+        priorite = prioriteDao.save(nouvellePriorite);
+
+        categories = categorieDao.saveAll(List.of(
+                newCategorie("Catégorie plan A"),
+                newCategorie("Catégorie plan B"),
+                newCategorie("Catégorie plan C")));
+
+        soumetteurs = utilisateurDao.saveAll(List.of(
+                newUtilisateur("plan_user_1"),
+                newUtilisateur("plan_user_2"),
+                newUtilisateur("plan_user_3")));
+    }
+
+    @Test
+    @DisplayName("Liste basique - Nombre de requêtes indépendant du nombre de tickets")
+    void testBasicListing_ConstantStatementCount() {
+        createTickets(5);
+        long statementsForFive = countStatements(() -> renderBasicPage(5));
+
+        createTickets(20);
+        long statementsForTwentyFive = countStatements(() -> renderBasicPage(25));
+
+        assertEquals(1, statementsForFive);
+        assertEquals(statementsForFive, statementsForTwentyFive);
+    }
+
+    @Test
+    @DisplayName("Export détaillé - Nombre de requêtes indépendant du nombre de tickets")
+    void testDetailExport_ConstantStatementCount() {
+        createTickets(5);
+        long statementsForFive = countStatements(this::exportDetail);
+
+        createTickets(20);
+        long statementsForTwentyFive = countStatements(this::exportDetail);
+
+        // Une requête pour les tickets (priorité et utilisateurs joints) et une pour les catégories
+        assertEquals(2, statementsForFive);
+        assertEquals(statementsForFive, statementsForTwentyFive);
+    }
+
+    private void renderBasicPage(int size) {
+        List<TicketBasicDto> tickets = ticketDao.findPageBefore(KeysetCursor.FIRST.getDateCreation(),
+                KeysetCursor.FIRST.getId(), Limit.of(size));
+        assertEquals(size, tickets.size());
+        tickets.forEach(ticket -> assertNotNull(ticket.getPriorite().getNom()));
+    }
+
+    private void exportDetail() {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long exported = ticketExportService.exportTickets(output, TicketDetailView.class);
+            assertTrue(exported > 0);
+            assertTrue(output.toString(StandardCharsets.UTF_8).contains("Catégorie plan"));
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createTickets(int count) {
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitre("Ticket plan " + i);
+            ticket.setDescription("Description du ticket de test " + i);
+            ticket.setResolu(false);
+            ticket.setPriorite(priorite);
+            ticket.setSoumetteur(soumetteurs.get(i % soumetteurs.size()));
+            ticket.setCategories(new ArrayList<>(List.of(categories.get(i % categories.size()),
+                    categories.get((i + 1) % categories.size()))));
+            ticketDao.save(ticket);
+        }
+    }
+
+    private Categorie newCategorie(String nom) {
+        Categorie categorie = new Categorie();
+        categorie.setNom(nom);
+        return categorie;
+    }
+
+    private Utilisateur newUtilisateur(String pseudo) {
+        Utilisateur utilisateur = new Utilisateur();
+        utilisateur.setPseudo(pseudo);
+        utilisateur.setPassword("password-hash");
+        utilisateur.setAdmin(false);
+        return utilisateur;
+    }
+}
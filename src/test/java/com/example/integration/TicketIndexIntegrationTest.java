@@ -0,0 +1,233 @@
+package com.example.integration;
+
+import com.example.dao.CategorieDao;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.dao.UtilisateurDao;
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.Utilisateur;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration des index créés par les migrations
+ *
+ * Le SQL généré par Hibernate pour chaque requête fréquente de TicketDao est
+ * capturé puis passé à EXPLAIN (H2) : le plan doit utiliser l'index prévu
+ * plutôt qu'un parcours complet de la table.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.integration.TicketIndexIntegrationTest$SqlCapture")
+@Transactional
+@DisplayName("Tests d'intégration - Index des tickets")
+class TicketIndexIntegrationTest {
+
+    /** Première tranche, sans tri : Spring Data lit une ligne de plus (FETCH FIRST 21 ROWS) */
+    private static final Pageable FIRST_SLICE = PageRequest.of(0, 20);
+    private static final int SLICE_ROWS = 21;
+
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* PUBLIC\\.([A-Za-z0-9_.]+)");
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private UtilisateurDao utilisateurDao;
+
+    @Autowired
+    private PrioriteDao prioriteDao;
+
+    @Autowired
+    private CategorieDao categorieDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Utilisateur soumetteur;
+    private Priorite priorite;
+    private Categorie categorie;
+
+    @BeforeEach
+    void setUp() {
+        soumetteur = new Utilisateur();
+        soumetteur.setPseudo("index_soumetteur");
+        soumetteur.setPassword("hash");
+        soumetteur.setAdmin(true);
+        soumetteur = utilisateurDao.save(soumetteur);
+
+        priorite = prioriteDao.findAll().get(0);
+        List<Categorie> categories = categorieDao.findAll();
+        categorie = categories.get(0);
+
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTitre("Ticket indexé " + i);
+            ticket.setDescription("Description du ticket indexé " + i);
+            ticket.setResolu(i % 2 == 0);
+            ticket.setPriorite(priorite);
+            ticket.setSoumetteur(soumetteur);
+            if (ticket.isResolu()) {
+                ticket.setResolveur(soumetteur);
+                ticket.setDateResolution(LocalDateTime.now());
+            }
+            ticket.setCategories(new ArrayList<>(List.of(categories.get(i % categories.size()))));
+            tickets.add(ticket);
+        }
+        ticketDao.saveAllAndFlush(tickets);
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Tickets non résolus - Index (resolu, date_creation)")
+    void testFindByResoluFalse() {
+        ticketDao.findByResoluFalse(FIRST_SLICE);
+
+        assertPlanUsesIndex("idx_ticket_resolu_date_creation", SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Tickets non résolus les plus anciens - Index (resolu, date_creation)")
+    void testFindOldestUnresolvedTickets() {
+        ticketDao.findOldestUnresolvedTickets(Limit.of(10));
+
+        assertPlanUsesIndex("idx_ticket_resolu_date_creation", 10);
+    }
+
+    @Test
+    @DisplayName("Tickets résolus récemment - Index (resolu, date_resolution)")
+    void testFindRecentlyResolvedTickets() {
+        LocalDateTime dateLimit = LocalDateTime.now().minusDays(7);
+        ticketDao.findRecentlyResolvedTickets(dateLimit, FIRST_SLICE);
+
+        assertPlanUsesIndex("idx_ticket_resolu_date_resolution", dateLimit, SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Page des tickets d'un soumetteur - Index (soumetteur_id, date_creation)")
+    void testFindBySoumetteurPageBefore() {
+        LocalDateTime dateCreation = LocalDateTime.now().plusDays(1);
+        ticketDao.findBySoumetteurPageBefore(soumetteur.getId(), dateCreation, Integer.MAX_VALUE, Limit.of(20));
+
+        assertPlanUsesIndex("idx_ticket_soumetteur",
+                soumetteur.getId(), dateCreation, dateCreation, Integer.MAX_VALUE, 0, 20);
+    }
+
+    @Test
+    @DisplayName("Tickets d'un soumetteur - Index sur soumetteur_id")
+    void testFindBySoumetteur() {
+        ticketDao.findBySoumetteur(soumetteur, FIRST_SLICE);
+
+        assertPlanUsesIndex("soumetteur", soumetteur.getId(), SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Tickets d'un résolveur - Index de la clé étrangère resolveur_id")
+    void testFindByResolveur() {
+        ticketDao.findByResolveur(soumetteur, FIRST_SLICE);
+
+        assertPlanUsesIndex("resolveur", soumetteur.getId(), SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Tickets non résolus d'une priorité - Index (priorite_id, resolu)")
+    void testFindByResoluFalseAndPriorite() {
+        ticketDao.findByResoluFalseAndPriorite(priorite, FIRST_SLICE);
+
+        assertPlanUsesIndex("idx_ticket_priorite_resolu", priorite.getId(), SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Tickets d'une catégorie - Index (categorie_id, ticket_id)")
+    void testFindByCategoriesContaining() {
+        ticketDao.findByCategoriesContaining(categorie, FIRST_SLICE);
+
+        assertPlanUsesIndex("idx_ticket_categorie_categorie", categorie.getId(), SLICE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Utilisation d'une priorité - Index sur priorite_id")
+    void testCountByPrioriteId() {
+        ticketDao.countByPrioriteId(priorite.getId());
+
+        assertPlanUsesIndex("priorite", priorite.getId());
+    }
+
+    @Test
+    @DisplayName("Utilisation d'une catégorie - Index sur ticket_categorie.categorie_id")
+    void testCountByCategorieId() {
+        ticketDao.countByCategorieId(categorie.getId());
+
+        assertPlanUsesIndex("ticket_categorie_categorie", categorie.getId());
+    }
+
+    @Test
+    @DisplayName("Liste paginée par curseur - Index (date_creation, id)")
+    void testFindPageBefore() {
+        LocalDateTime dateCreation = LocalDateTime.now().plusDays(1);
+        ticketDao.findPageBefore(dateCreation, Integer.MAX_VALUE, Limit.of(20));
+
+        assertPlanUsesIndex("idx_ticket_date_creation", dateCreation, dateCreation, Integer.MAX_VALUE, 0, 20);
+    }
+
+    /**
+     * Explique la dernière requête capturée avec ses paramètres et vérifie que
+     * le plan lit les tickets par l'index attendu
+     *
+     * @param index le nom (ou une partie du nom) de l'index attendu
+     */
+    private void assertPlanUsesIndex(String index, Object... parameters) {
+        assertFalse(SqlCapture.STATEMENTS.isEmpty(), "Aucune requête capturée");
+        String sql = SqlCapture.STATEMENTS.get(SqlCapture.STATEMENTS.size() - 1);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+
+        // H2 indique en commentaire l'accès choisi pour chaque table : /* PUBLIC.<index>: ... */
+        // ou /* PUBLIC.<table>.tableScan */
+        List<String> accessPaths = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            accessPaths.add(matcher.group(1).toLowerCase());
+        }
+        assertFalse(accessPaths.contains("ticket.tablescan"), "Parcours complet de la table ticket :\n" + plan);
+        assertTrue(accessPaths.stream().anyMatch(path -> path.contains(index)),
+                "Index " + index + " non utilisé :\n" + plan);
+    }
+
+    /**
+     * Capture le SQL envoyé par Hibernate (instanciée par Hibernate)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.integration;
+
+import com.example.dao.TicketDao;
+import com.example.dao.TicketOutboxDao;
+import com.example.dto.CreateTicketDto;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketOutboxEventDto;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import com.example.model.TicketOutboxEvent;
+import com.example.service.PrioriteService;
+import com.example.service.TicketOutboxRelay;
+import com.example.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration de l'outbox des événements de tickets
+ *
+ * Ces tests ne sont pas transactionnels : l'outbox est écrite dans la
+ * transaction du service, puis transmise par un appel direct au relais (non
+ * planifié dans le profil de test).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests d'intégration - Outbox des événements de tickets")
+class TicketOutboxIntegrationTest {
+
+    @TestConfiguration
+    static class ListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+
+        private final List<TicketOutboxEventDto> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onTicketEvent(TicketOutboxEventDto event) {
+            events.add(event);
+        }
+    }
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private PrioriteService prioriteService;
+
+    @Autowired
+    private TicketOutboxRelay ticketOutboxRelay;
+
+    @Autowired
+    private TicketOutboxDao ticketOutboxDao;
+
+    @Autowired
+    private TicketDao ticketDao;
+
+    @Autowired
+    private RecordingListener recordingListener;
+
+    private Priorite priorite;
+    private final List<Integer> ticketIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        priorite = prioriteService.createPriorite("Priorité outbox test");
+        recordingListener.events.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketDao.deleteAllById(ticketIds);
+        prioriteService.deletePriorite(priorite.getId());
+    }
+
+    @Test
+    @DisplayName("Création de ticket - Événement écrit avec le ticket puis transmis aux écouteurs")
+    void testCreateTicket_EventRecordedAndRelayed() {
+        // When
+        Ticket ticket = ticketService.createTicket(new CreateTicketDto("Ticket outbox",
+                "Ticket dont la création est transmise par l'outbox", priorite.getId(), null), null);
+        ticketIds.add(ticket.getId());
+
+        // Then
+        assertEquals(1, outboxEventsOf(ticket.getId()).size());
+        assertEquals("CREATED", outboxEventsOf(ticket.getId()).get(0).getEventType());
+
+        // When
+        assertTrue(ticketOutboxRelay.relay() >= 1);
+
+        // Then
+        assertTrue(outboxEventsOf(ticket.getId()).isEmpty());
+        assertTrue(recordingListener.events.stream()
+                .anyMatch(event -> event.ticketId().equals(ticket.getId())
+                        && event.eventType() == TicketEventDto.Type.CREATED));
+    }
+
+    private List<TicketOutboxEvent> outboxEventsOf(Integer ticketId) {
+        return ticketOutboxDao.findAll().stream()
+                .filter(event -> event.getTicketId().equals(ticketId))
+                .toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.service;
+
+import com.example.service.AggregateVersionService.Aggregate;
+import com.example.service.AggregateVersionService.Version;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour AggregateVersionService (hors transaction : les
+ * versions changent immédiatement)
+ */
+@DisplayName("Tests unitaires - AggregateVersionService")
+class AggregateVersionServiceTest {
+
+    private final AggregateVersionService aggregateVersionService = new AggregateVersionService();
+
+    @Test
+    @DisplayName("Version initiale - ETag fort propre à chaque agrégat")
+    void testInitialVersions() {
+        Version tickets = aggregateVersionService.current(Aggregate.TICKETS);
+        Version priorites = aggregateVersionService.current(Aggregate.PRIORITES);
+
+        assertTrue(tickets.eTag().startsWith("\"tickets-"));
+        assertTrue(tickets.eTag().endsWith("\""));
+        assertNotEquals(tickets.eTag(), priorites.eTag());
+        assertEquals(tickets, aggregateVersionService.current(Aggregate.TICKETS));
+    }
+
+    @Test
+    @DisplayName("Modification - Seuls les agrégats modifiés changent de version")
+    void testOnChanged() {
+        Version tickets = aggregateVersionService.current(Aggregate.TICKETS);
+        Version priorites = aggregateVersionService.current(Aggregate.PRIORITES);
+        Version categories = aggregateVersionService.current(Aggregate.CATEGORIES);
+
+        aggregateVersionService.onChanged(Aggregate.PRIORITES, Aggregate.TICKETS);
+
+        assertNotEquals(tickets.eTag(), aggregateVersionService.current(Aggregate.TICKETS).eTag());
+        assertNotEquals(priorites.eTag(), aggregateVersionService.current(Aggregate.PRIORITES).eTag());
+        assertEquals(categories, aggregateVersionService.current(Aggregate.CATEGORIES));
+    }
+
+    @Test
+    @DisplayName("Version combinée - Change dès qu'un des agrégats change")
+    void testCombinedVersion() {
+        Version combined = aggregateVersionService.current(Aggregate.PRIORITES, Aggregate.TICKETS);
+        assertEquals(combined, aggregateVersionService.current(Aggregate.PRIORITES, Aggregate.TICKETS));
+
+        aggregateVersionService.onChanged(Aggregate.CATEGORIES);
+        assertEquals(combined, aggregateVersionService.current(Aggregate.PRIORITES, Aggregate.TICKETS));
+
+        aggregateVersionService.onChanged(Aggregate.TICKETS);
+        Version changed = aggregateVersionService.current(Aggregate.PRIORITES, Aggregate.TICKETS);
+        assertNotEquals(combined.eTag(), changed.eTag());
+        assertTrue(changed.eTag().startsWith("\"") && changed.eTag().endsWith("\""));
+        assertEquals(aggregateVersionService.current(Aggregate.TICKETS).lastModified(), changed.lastModified());
+    }
+
+    @Test
+    @DisplayName("Modifications rapprochées - Last-Modified suit l'horloge, l'ETag les distingue")
+    void testLastModifiedFollowsClock() {
+        Version previous = aggregateVersionService.current(Aggregate.TICKETS);
+
+        for (int i = 0; i < 3; i++) {
+            aggregateVersionService.onChanged(Aggregate.TICKETS);
+            Version version = aggregateVersionService.current(Aggregate.TICKETS);
+            assertNotEquals(previous.eTag(), version.eTag());
+            assertTrue(version.lastModified() >= previous.lastModified());
+            assertTrue(version.lastModified() <= System.currentTimeMillis());
+            assertEquals(0, version.lastModified() % 1000);
+            previous = version;
+        }
+    }
+}
@@ -7,17 +7,30 @@ import com.example.model.Utilisateur;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +49,15 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    // Calculs exécutés sur le thread du test
+    @Spy
+    private PasswordHashingService passwordHashingService =
+            new PasswordHashingService(Runnable::run, new SimpleMeterRegistry());
+
+    // Suites (accès à la base) exécutées sur le thread du test
+    @Spy
+    private SyncTaskExecutor continuationExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private AuthService authService;
 
@@ -78,7 +100,7 @@ class AuthServiceTest {
         when(passwordEncoder.matches("plainPassword", "hashedPassword")).thenReturn(true);
 
         // When
-        AuthResponseDto response = authService.login(loginRequest);
+        AuthResponseDto response = await(authService.login(loginRequest));
 
         // Then
         assertNotNull(response);
@@ -92,6 +114,25 @@ class AuthServiceTest {
         verify(passwordEncoder).matches("plainPassword", "hashedPassword");
     }
 
+    @Test
+    @DisplayName("Login réussi - Hash dépassé rehaché avec les paramètres actuels")
+    void testLogin_Success_UpgradesOutdatedHash() {
+        // Given
+        when(utilisateurDao.findByPseudo("testuser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("plainPassword", "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("plainPassword")).thenReturn("{bcrypt}newHash");
+        when(utilisateurDao.replacePasswordHash(1, "hashedPassword", "{bcrypt}newHash")).thenReturn(1);
+
+        // When
+        AuthResponseDto response = await(authService.login(loginRequest));
+
+        // Then
+        assertNotNull(response.getToken());
+        verify(utilisateurDao).replacePasswordHash(1, "hashedPassword", "{bcrypt}newHash");
+        verify(utilisateurDao, never()).save(any());
+    }
+
     @Test
     @DisplayName("Login réussi - Administrateur")
     void testLogin_Success_Admin() {
@@ -101,7 +142,7 @@ class AuthServiceTest {
         when(passwordEncoder.matches("plainPassword", "hashedAdminPassword")).thenReturn(true);
 
         // When
-        AuthResponseDto response = authService.login(loginRequest);
+        AuthResponseDto response = await(authService.login(loginRequest));
 
         // Then
         assertNotNull(response);
@@ -118,7 +159,7 @@ class AuthServiceTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            authService.login(loginRequest);
+            await(authService.login(loginRequest));
         });
 
         assertEquals("Utilisateur non trouvé", exception.getMessage());
@@ -135,7 +176,7 @@ class AuthServiceTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            authService.login(loginRequest);
+            await(authService.login(loginRequest));
         });
 
         assertEquals("Mot de passe incorrect", exception.getMessage());
@@ -162,6 +203,13 @@ class AuthServiceTest {
         assertEquals("testuser", claims.getSubject());
         assertEquals(1, claims.get("userId", Integer.class));
         assertEquals(false, claims.get("admin", Boolean.class));
+        assertNotNull(claims.getId());
+    }
+
+    @Test
+    @DisplayName("Génération de tokens JWT - Distincts même émis dans la même seconde")
+    void testGenerateToken_UniquePerCall() {
+        assertNotEquals(authService.generateToken(testUser), authService.generateToken(testUser));
     }
 
     @Test
@@ -239,7 +287,7 @@ class AuthServiceTest {
         when(passwordEncoder.encode(plainPassword)).thenReturn(hashedPassword);
 
         // When
-        String result = authService.hashPassword(plainPassword);
+        String result = await(authService.hashPassword(plainPassword));
 
         // Then
         assertEquals(hashedPassword, result);
@@ -255,7 +303,7 @@ class AuthServiceTest {
         when(passwordEncoder.matches(plainPassword, hashedPassword)).thenReturn(true);
 
         // When
-        boolean result = authService.verifyPassword(plainPassword, hashedPassword);
+        boolean result = await(authService.verifyPassword(plainPassword, hashedPassword));
 
         // Then
         assertTrue(result);
@@ -279,7 +327,7 @@ class AuthServiceTest {
         });
 
         // When
-        Utilisateur result = authService.createUser(pseudo, password, false);
+        Utilisateur result = await(authService.createUser(pseudo, password, false));
 
         // Then
         assertNotNull(result);
@@ -292,6 +340,43 @@ class AuthServiceTest {
         verify(utilisateurDao).save(any(Utilisateur.class));
     }
 
+    @Test
+    @DisplayName("Création d'utilisateur - Hachage sur le pool, enregistrement sur l'exécuteur des suites")
+    void testCreateUser_SavesOnContinuationExecutor() throws InterruptedException {
+        // Given
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("hashing-"));
+        ExecutorService continuations = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("continuation-"));
+        AuthService pooledAuthService = new AuthService(utilisateurDao, passwordEncoder,
+                new PasswordHashingService(pool, new SimpleMeterRegistry()), continuations);
+        Thread caller = Thread.currentThread();
+        Thread[] threads = new Thread[2];
+        when(utilisateurDao.existsByPseudo("newuser")).thenReturn(false);
+        when(passwordEncoder.encode("password123")).thenAnswer(invocation -> {
+            threads[0] = Thread.currentThread();
+            return "hashedPassword123";
+        });
+        when(utilisateurDao.save(any(Utilisateur.class))).thenAnswer(invocation -> {
+            threads[1] = Thread.currentThread();
+            return invocation.getArgument(0);
+        });
+        try {
+            // When
+            Utilisateur result = await(pooledAuthService.createUser("newuser", "password123", false));
+
+            // Then : ni le thread appelant ni le pool de hachage n'accèdent à la base
+            assertEquals("hashedPassword123", result.getPassword());
+            assertTrue(threads[0].getName().startsWith("hashing-"));
+            assertTrue(threads[1].getName().startsWith("continuation-"));
+            assertNotSame(caller, threads[1]);
+        } finally {
+            pool.shutdown();
+            continuations.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(continuations.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
     @Test
     @DisplayName("Création d'utilisateur échouée - Pseudo existe déjà")
     void testCreateUser_Failure_PseudoExists() {
@@ -301,7 +386,7 @@ class AuthServiceTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            authService.createUser(pseudo, "password", false);
+            await(authService.createUser(pseudo, "password", false));
         });
 
         assertEquals("Un utilisateur avec ce pseudo existe déjà", exception.getMessage());
@@ -376,7 +461,7 @@ class AuthServiceTest {
         when(utilisateurDao.save(testUser)).thenReturn(testUser);
 
         // When
-        authService.updatePassword(1, oldPassword, newPassword);
+        await(authService.updatePassword(1, oldPassword, newPassword));
 
         // Then
         verify(utilisateurDao).findById(1);
@@ -400,7 +485,7 @@ class AuthServiceTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            authService.updatePassword(1, oldPassword, newPassword);
+            await(authService.updatePassword(1, oldPassword, newPassword));
         });
 
         assertEquals("Ancien mot de passe incorrect", exception.getMessage());
@@ -410,8 +495,16 @@ class AuthServiceTest {
     @Test
     @DisplayName("Renouvellement de token réussi")
     void testRefreshToken_Success() {
-        // Given
-        String originalToken = authService.generateToken(testUser);
+        // Given : token émis une minute plus tôt (les dates JWT sont à la seconde)
+        Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
+        String originalToken = Jwts.builder()
+                .subject("testuser")
+                .claim("userId", 1)
+                .claim("admin", false)
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + 86_400_000L))
+                .signWith(Keys.hmacShaKeyFor(testSecret.getBytes()))
+                .compact();
         when(utilisateurDao.findByPseudo("testuser")).thenReturn(Optional.of(testUser));
 
         // When
@@ -449,4 +542,45 @@ class AuthServiceTest {
         // When & Then
         assertFalse(authService.isTokenExpired(validToken));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Login refusé - Pool de hachage saturé")
+    void testLogin_Rejected_WhenHashingSaturated() throws InterruptedException {
+        // Given : un thread occupé et une file d'une place déjà prise
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingService saturated = new PasswordHashingService(pool, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            saturated.submit("test", () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+            saturated.submit("test", () -> null);
+            AuthService saturatedAuthService = new AuthService(utilisateurDao, passwordEncoder, saturated,
+                    continuationExecutor);
+            when(utilisateurDao.findByPseudo("testuser")).thenReturn(Optional.of(testUser));
+
+            // When & Then
+            RejectedExecutionException exception = assertThrows(RejectedExecutionException.class,
+                    () -> await(saturatedAuthService.login(loginRequest)));
+            assertEquals(PasswordHashingService.SATURATED_MESSAGE, exception.getMessage());
+            assertEquals(1.0, meterRegistry.get("auth.hashing.rejected").counter().count());
+            assertEquals(1.0, meterRegistry.get("auth.hashing.queue.size").gauge().value());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        return PasswordHashingService.await(future);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.service;
+
+import com.example.dao.CategorieDao;
+import com.example.dao.PrioriteDao;
+import com.example.dao.TicketDao;
+import com.example.dto.TicketEventDto;
+import com.example.model.Categorie;
+import com.example.model.Priorite;
+import com.example.model.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ReferenceUsageService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - ReferenceUsageService")
+class ReferenceUsageServiceTest {
+
+    @Mock
+    private TicketDao ticketDao;
+
+    @Mock
+    private PrioriteDao prioriteDao;
+
+    @Mock
+    private CategorieDao categorieDao;
+
+    @Mock
+    private AggregateVersionService aggregateVersionService;
+
+    @InjectMocks
+    private ReferenceUsageService referenceUsageService;
+
+    @Test
+    @DisplayName("Priorité inutilisée - Suppression autorisée sans compter les tickets")
+    void testCheckPrioriteDeletable_Unused() {
+        // Given
+        when(prioriteDao.isUsedByTickets(1)).thenReturn(false);
+
+        // When & Then
+        assertDoesNotThrow(() -> referenceUsageService.checkPrioriteDeletable(1));
+        verify(ticketDao, never()).countByPrioriteId(any());
+        verify(ticketDao, never()).findByPriorite(any(), any());
+    }
+
+    @Test
+    @DisplayName("Priorité utilisée - Suppression refusée avec le nombre de tickets")
+    void testCheckPrioriteDeletable_Used() {
+        // Given
+        when(prioriteDao.isUsedByTickets(1)).thenReturn(true);
+        when(ticketDao.countByPrioriteId(1)).thenReturn(3L);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> referenceUsageService.checkPrioriteDeletable(1));
+        assertEquals("Impossible de supprimer cette priorité car elle est utilisée par 3 ticket(s)",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Catégorie utilisée - Suppression refusée avec le nombre de tickets")
+    void testCheckCategorieDeletable_Used() {
+        // Given
+        when(categorieDao.isUsedByTickets(2)).thenReturn(true);
+        when(ticketDao.countByCategorieId(2)).thenReturn(5L);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> referenceUsageService.checkCategorieDeletable(2));
+        assertEquals("Impossible de supprimer cette catégorie car elle est utilisée par 5 ticket(s)",
+                exception.getMessage());
+        verify(ticketDao, never()).findByCategoriesContaining(any(), any());
+    }
+
+    @Test
+    @DisplayName("Catégorie inutilisée - Suppression autorisée")
+    void testCheckCategorieDeletable_Unused() {
+        // Given
+        when(categorieDao.isUsedByTickets(2)).thenReturn(false);
+
+        // When & Then
+        assertDoesNotThrow(() -> referenceUsageService.checkCategorieDeletable(2));
+        verify(ticketDao, never()).countByCategorieId(any());
+    }
+
+    @Test
+    @DisplayName("Création - Incrémente la priorité et chaque catégorie une seule fois")
+    void testOnTicketsChanged_Created() {
+        // Given
+        Ticket ticket = ticket(1, false, 2, 3, 3);
+
+        // When
+        referenceUsageService.onTicketsChanged(event(TicketEventDto.Type.CREATED, ticket,
+                new ReferenceUsageService.CounterChanges().add(ticket, 1, 1)));
+
+        // Then
+        verify(prioriteDao).adjustTicketCounts(1, 1, 1);
+        verify(categorieDao).adjustTicketCounts(List.of(2, 3), 1, 1);
+    }
+
+    @Test
+    @DisplayName("Modification - Ne touche pas aux références inchangées")
+    void testOnTicketsChanged_Updated() {
+        // Given : priorité 1 -> 2, catégories [3, 4] -> [4, 5]
+        Ticket ticket = ticket(2, false, 4, 5);
+
+        // When
+        referenceUsageService.onTicketsChanged(event(TicketEventDto.Type.UPDATED, ticket,
+                new ReferenceUsageService.CounterChanges().add(1, List.of(3, 4), -1, -1).add(ticket, 1, 1)));
+
+        // Then
+        verify(prioriteDao).adjustTicketCounts(1, -1, -1);
+        verify(prioriteDao).adjustTicketCounts(2, 1, 1);
+        verify(categorieDao).adjustTicketCounts(List.of(3), -1, -1);
+        verify(categorieDao).adjustTicketCounts(List.of(5), 1, 1);
+        verify(categorieDao, never()).adjustTicketCounts(argThat(ids -> ids.contains(4)), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Suppression d'un ticket résolu - Seul le nombre total diminue")
+    void testOnTicketsChanged_DeletedResolved() {
+        // Given
+        Ticket ticket = ticket(1, true, 2);
+
+        // When
+        referenceUsageService.onTicketsChanged(event(TicketEventDto.Type.DELETED, ticket,
+                new ReferenceUsageService.CounterChanges().add(ticket, -1, 0)));
+
+        // Then
+        verify(prioriteDao).adjustTicketCounts(1, -1, 0);
+        verify(categorieDao).adjustTicketCounts(List.of(2), -1, 0);
+    }
+
+    @Test
+    @DisplayName("Réparation - Recalcule les compteurs depuis les tickets")
+    void testRepairCounters() {
+        // When
+        referenceUsageService.repairCounters();
+
+        // Then
+        verify(prioriteDao).recomputeTicketCounts();
+        verify(categorieDao).recomputeTicketCounts();
+        verify(aggregateVersionService).onChanged(AggregateVersionService.Aggregate.PRIORITES,
+                AggregateVersionService.Aggregate.CATEGORIES);
+    }
+
+    private static TicketChangeEvent event(TicketEventDto.Type type, Ticket ticket,
+            ReferenceUsageService.CounterChanges counterChanges) {
+        return new TicketChangeEvent(type, List.of(TicketChangeEvent.TicketState.of(ticket)), counterChanges);
+    }
+
+    private static Ticket ticket(Integer prioriteId, boolean resolu, Integer... categorieIds) {
+        Priorite priorite = new Priorite();
+        priorite.setId(prioriteId);
+        Ticket ticket = new Ticket();
+        ticket.setPriorite(priorite);
+        ticket.setResolu(resolu);
+        ticket.setCategories(Arrays.stream(categorieIds).map(id -> {
+            Categorie categorie = new Categorie();
+            categorie.setId(id);
+            return categorie;
+        }).toList());
+        return ticket;
+    }
+}
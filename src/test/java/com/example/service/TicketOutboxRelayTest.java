@@ -0,0 +1,151 @@
+package com.example.service;
+
+import com.example.dao.TicketOutboxDao;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketOutboxEventDto;
+import com.example.model.TicketOutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour TicketOutboxRelay
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - TicketOutboxRelay")
+class TicketOutboxRelayTest {
+
+    @Mock
+    private TicketOutboxDao ticketOutboxDao;
+
+    @Mock
+    private TicketEventSink sink;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(10_000);
+    private TicketOutboxRelay ticketOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sink.getName()).thenReturn("test");
+        ticketOutboxRelay = new TicketOutboxRelay(ticketOutboxDao, List.of(sink), 2, 1000, 5000, meterRegistry,
+                clock::get);
+    }
+
+    @Test
+    @DisplayName("Transmission - Lots transmis dans l'ordre puis supprimés de l'outbox")
+    void testRelay_DeliversAndDeletesBatches() throws Exception {
+        // Given
+        List<TicketOutboxEvent> first = List.of(event(1L), event(2L));
+        List<TicketOutboxEvent> second = List.of(event(3L));
+        when(ticketOutboxDao.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(first, second);
+
+        // When
+        int delivered = ticketOutboxRelay.relay();
+
+        // Then
+        assertEquals(3, delivered);
+        InOrder inOrder = inOrder(sink, ticketOutboxDao);
+        inOrder.verify(sink).deliver(List.of(dto(1L), dto(2L)));
+        inOrder.verify(ticketOutboxDao).deleteAllByIdInBatch(List.of(1L, 2L));
+        inOrder.verify(sink).deliver(List.of(dto(3L)));
+        inOrder.verify(ticketOutboxDao).deleteAllByIdInBatch(List.of(3L));
+        assertEquals(3, meterRegistry.counter("ticket.outbox.delivered").count());
+    }
+
+    @Test
+    @DisplayName("Échec - Lot conservé et renvoyé après un délai croissant")
+    void testRelay_FailureKeepsBatchAndBacksOff() throws Exception {
+        // Given
+        List<TicketOutboxEvent> batch = List.of(event(1L));
+        when(ticketOutboxDao.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(batch);
+        doThrow(new IOException("indisponible")).doThrow(new IOException("indisponible")).doNothing()
+                .when(sink).deliver(List.of(dto(1L)));
+
+        // When & Then : premier échec, nouvel essai après 1 s
+        assertEquals(0, ticketOutboxRelay.relay());
+        clock.addAndGet(999);
+        assertEquals(0, ticketOutboxRelay.relay());
+        verify(ticketOutboxDao, times(1)).findAllByOrderByIdAsc(any(Pageable.class));
+
+        // Deuxième échec, nouvel essai après 2 s
+        clock.addAndGet(1);
+        assertEquals(0, ticketOutboxRelay.relay());
+        clock.addAndGet(1999);
+        assertEquals(0, ticketOutboxRelay.relay());
+        clock.addAndGet(1);
+        assertEquals(1, ticketOutboxRelay.relay());
+
+        verify(sink, times(3)).deliver(List.of(dto(1L)));
+        verify(ticketOutboxDao, times(1)).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(2, meterRegistry.counter("ticket.outbox.failures", "sink", "test").count());
+    }
+
+    @Test
+    @DisplayName("Type inconnu - Événement écarté et compté, le reste du lot est transmis")
+    void testRelay_DiscardsUnknownEventType() throws Exception {
+        // Given
+        TicketOutboxEvent unknown = new TicketOutboxEvent(1L, "ARCHIVED", 1, LocalDateTime.of(2024, 1, 1, 12, 0));
+        List<TicketOutboxEvent> first = List.of(unknown, event(2L));
+        List<TicketOutboxEvent> second = List.of(event(3L));
+        when(ticketOutboxDao.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(first, second);
+
+        // When
+        int delivered = ticketOutboxRelay.relay();
+
+        // Then
+        assertEquals(2, delivered);
+        InOrder inOrder = inOrder(sink, ticketOutboxDao);
+        inOrder.verify(ticketOutboxDao).deleteAllByIdInBatch(List.of(1L));
+        inOrder.verify(sink).deliver(List.of(dto(2L)));
+        inOrder.verify(ticketOutboxDao).deleteAllByIdInBatch(List.of(2L));
+        inOrder.verify(sink).deliver(List.of(dto(3L)));
+        assertEquals(1, meterRegistry.counter("ticket.outbox.discarded").count());
+        assertEquals(0, meterRegistry.counter("ticket.outbox.failures", "sink", "test").count());
+    }
+
+    @Test
+    @DisplayName("Type inconnu - Un lot entièrement illisible ne bloque pas les suivants")
+    void testRelay_SkipsFullyUndecodableBatch() throws Exception {
+        // Given
+        List<TicketOutboxEvent> first = List.of(
+                new TicketOutboxEvent(1L, "ARCHIVED", 1, LocalDateTime.of(2024, 1, 1, 12, 0)),
+                new TicketOutboxEvent(2L, null, 2, LocalDateTime.of(2024, 1, 1, 12, 0)));
+        List<TicketOutboxEvent> second = List.of(event(3L));
+        when(ticketOutboxDao.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(first, second);
+
+        // When
+        int delivered = ticketOutboxRelay.relay();
+
+        // Then
+        assertEquals(1, delivered);
+        verify(ticketOutboxDao).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(sink, times(1)).deliver(any());
+        verify(sink).deliver(List.of(dto(3L)));
+        assertEquals(2, meterRegistry.counter("ticket.outbox.discarded").count());
+    }
+
+    private static TicketOutboxEvent event(Long id) {
+        return new TicketOutboxEvent(id, "CREATED", id.intValue(), LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    private static TicketOutboxEventDto dto(Long id) {
+        return new TicketOutboxEventDto(id, TicketEventDto.Type.CREATED, id.intValue(),
+                LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
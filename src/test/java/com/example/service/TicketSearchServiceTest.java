@@ -0,0 +1,140 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketSearchResultDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour TicketSearchService (index Lucene en mémoire)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - TicketSearchService")
+class TicketSearchServiceTest {
+
+    @Mock
+    private TicketDao ticketDao;
+
+    private TicketSearchService ticketSearchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ticketSearchService = new TicketSearchService(ticketDao, "");
+        ticketSearchService.open();
+
+        when(ticketDao.streamSearchableFields()).thenReturn(Stream.of(
+                new Object[] { 1, "Problème de connexion", "Impossible de se connecter à l'application depuis hier" },
+                new Object[] { 2, "Lenteur de l'application", "Les pages mettent plusieurs secondes à s'afficher" },
+                new Object[] { 3, "Export CSV", "Ajouter un export des données au format CSV pour la connexion BI" },
+                new Object[] { 4, "Erreur d'affichage", "Les caractères accentués s'affichent mal" }));
+        ticketSearchService.rebuildIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        ticketSearchService.close();
+    }
+
+    @Test
+    @DisplayName("Recherche - Accents et majuscules ignorés")
+    void testSearch_AccentInsensitive() {
+        // When
+        TicketSearchResultDto result = ticketSearchService.search("PROBLEME", 0, 10);
+
+        // Then
+        assertEquals(List.of(1), result.getTicketIds());
+    }
+
+    @Test
+    @DisplayName("Recherche - Préfixe d'un mot")
+    void testSearch_Prefix() {
+        // When
+        TicketSearchResultDto result = ticketSearchService.search("affich", 0, 10);
+
+        // Then
+        assertEquals(2, result.getTotalHits());
+        assertTrue(result.getTicketIds().containsAll(List.of(2, 4)));
+    }
+
+    @Test
+    @DisplayName("Recherche - Le titre est plus pertinent que la description")
+    void testSearch_RankedByRelevance() {
+        // When
+        TicketSearchResultDto result = ticketSearchService.search("connexion", 0, 10);
+
+        // Then
+        assertEquals(List.of(1, 3), result.getTicketIds());
+    }
+
+    @Test
+    @DisplayName("Recherche - Tous les termes sont requis")
+    void testSearch_AllTermsRequired() {
+        // When
+        TicketSearchResultDto result = ticketSearchService.search("export connexion", 0, 10);
+
+        // Then
+        assertEquals(List.of(3), result.getTicketIds());
+    }
+
+    @Test
+    @DisplayName("Recherche - Pagination des résultats")
+    void testSearch_Pagination() {
+        // When
+        TicketSearchResultDto firstPage = ticketSearchService.search("connexion", 0, 1);
+        TicketSearchResultDto secondPage = ticketSearchService.search("connexion", 1, 1);
+
+        // Then
+        assertEquals(2, firstPage.getTotalHits());
+        assertEquals(List.of(1), firstPage.getTicketIds());
+        assertEquals(List.of(3), secondPage.getTicketIds());
+    }
+
+    @Test
+    @DisplayName("Synchronisation - Ticket modifié puis supprimé")
+    void testIndexAndRemove() {
+        // Given
+        TicketChangeEvent.TicketState ticket = new TicketChangeEvent.TicketState(2, null,
+                "Performances dégradées", "Temps de réponse élevé sur la liste des tickets", false);
+
+        // When
+        ticketSearchService.onTicketsChanged(event(TicketEventDto.Type.UPDATED, ticket));
+
+        // Then
+        assertEquals(List.of(2), ticketSearchService.search("degradees", 0, 10).getTicketIds());
+        assertEquals(0, ticketSearchService.search("lenteur", 0, 10).getTotalHits());
+
+        // When
+        ticketSearchService.onTicketsChanged(event(TicketEventDto.Type.DELETED, ticket));
+
+        // Then
+        assertEquals(0, ticketSearchService.search("degradees", 0, 10).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Recherche - Mots vides uniquement")
+    void testSearch_OnlyStopWords() {
+        // When
+        TicketSearchResultDto result = ticketSearchService.search("le de la", 0, 10);
+
+        // Then
+        assertEquals(0, result.getTotalHits());
+        assertTrue(result.getTicketIds().isEmpty());
+    }
+
+    private static TicketChangeEvent event(TicketEventDto.Type type, TicketChangeEvent.TicketState ticket) {
+        return new TicketChangeEvent(type, List.of(ticket), new ReferenceUsageService.CounterChanges());
+    }
+}
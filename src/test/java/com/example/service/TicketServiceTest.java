@@ -4,11 +4,17 @@ import com.example.dao.TicketDao;
 import com.example.dao.UtilisateurDao;
 import com.example.dao.PrioriteDao;
 import com.example.dao.CategorieDao;
+import com.example.dto.AuthenticatedUser;
 import com.example.dto.CreateTicketDto;
+import com.example.dto.TicketBasicDto;
+import com.example.dto.TicketEventDto;
+import com.example.dto.TicketPageDto;
+import com.example.dto.TicketSearchResultDto;
 import com.example.model.Ticket;
 import com.example.model.Utilisateur;
 import com.example.model.Priorite;
 import com.example.model.Categorie;
+import com.example.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -45,11 +56,31 @@ class TicketServiceTest {
     @Mock
     private CategorieDao categorieDao;
 
+    @Mock
+    private PrioriteService prioriteService;
+
+    @Mock
+    private CategorieService categorieService;
+
+    @Mock
+    private TicketSearchService ticketSearchService;
+
+    @Mock
+    private TicketStatsService ticketStatsService;
+
+    @Mock
+    private UnresolvedTicketQueue unresolvedTicketQueue;
+
+    @Mock
+    private TicketChangePublisher ticketChangePublisher;
+
     @InjectMocks
     private TicketService ticketService;
 
     private Utilisateur testUser;
     private Utilisateur testAdmin;
+    private AuthenticatedUser userPrincipal;
+    private AuthenticatedUser adminPrincipal;
     private Priorite testPriorite;
     private Categorie testCategorie;
     private Ticket testTicket;
@@ -69,6 +100,10 @@ class TicketServiceTest {
         testAdmin.setPseudo("admin");
         testAdmin.setAdmin(true);
 
+        // Utilisateurs authentifiés correspondants (informations du token)
+        userPrincipal = new AuthenticatedUser(1, false);
+        adminPrincipal = new AuthenticatedUser(2, true);
+
         // Création d'une priorité de test
         testPriorite = new Priorite();
         testPriorite.setId(1);
@@ -101,9 +136,9 @@ class TicketServiceTest {
     @DisplayName("Création de ticket réussie - Utilisateur connecté")
     void testCreateTicket_Success_ConnectedUser() {
         // Given
-        when(prioriteDao.findById(1)).thenReturn(Optional.of(testPriorite));
+        when(prioriteService.getPrioriteReference(1)).thenReturn(Optional.of(testPriorite));
         when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser));
-        when(categorieDao.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList(testCategorie));
+        when(categorieService.getCategorieReference(1)).thenReturn(Optional.of(testCategorie));
         when(ticketDao.save(any(Ticket.class))).thenAnswer(invocation -> {
             Ticket ticket = invocation.getArgument(0);
             ticket.setId(1);
@@ -122,18 +157,20 @@ class TicketServiceTest {
         assertEquals(false, result.isResolu());
         assertTrue(result.getCategories().contains(testCategorie));
 
-        verify(prioriteDao).findById(1);
+        verify(prioriteService).getPrioriteReference(1);
         verify(utilisateurDao).findById(1);
-        verify(categorieDao).findAllById(Arrays.asList(1));
+        verify(categorieService).getCategorieReference(1);
         verify(ticketDao).save(any(Ticket.class));
+        verify(ticketChangePublisher).publish(argThat(event -> event.type() == TicketEventDto.Type.CREATED
+                && event.tickets().equals(List.of(TicketChangeEvent.TicketState.of(result)))));
     }
 
     @Test
     @DisplayName("Création de ticket réussie - Utilisateur non connecté")
     void testCreateTicket_Success_AnonymousUser() {
         // Given
-        when(prioriteDao.findById(1)).thenReturn(Optional.of(testPriorite));
-        when(categorieDao.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList(testCategorie));
+        when(prioriteService.getPrioriteReference(1)).thenReturn(Optional.of(testPriorite));
+        when(categorieService.getCategorieReference(1)).thenReturn(Optional.of(testCategorie));
         when(ticketDao.save(any(Ticket.class))).thenAnswer(invocation -> {
             Ticket ticket = invocation.getArgument(0);
             ticket.setId(1);
@@ -149,7 +186,7 @@ class TicketServiceTest {
         assertNull(result.getSoumetteur());
         assertEquals(false, result.isResolu());
 
-        verify(prioriteDao).findById(1);
+        verify(prioriteService).getPrioriteReference(1);
         verify(utilisateurDao, never()).findById(anyInt());
         verify(ticketDao).save(any(Ticket.class));
     }
@@ -158,7 +195,7 @@ class TicketServiceTest {
     @DisplayName("Création de ticket échouée - Priorité non trouvée")
     void testCreateTicket_Failure_PrioriteNotFound() {
         // Given
-        when(prioriteDao.findById(1)).thenReturn(Optional.empty());
+        when(prioriteService.getPrioriteReference(1)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -173,9 +210,9 @@ class TicketServiceTest {
     @DisplayName("Création de ticket échouée - Catégorie non trouvée")
     void testCreateTicket_Failure_CategorieNotFound() {
         // Given
-        when(prioriteDao.findById(1)).thenReturn(Optional.of(testPriorite));
+        when(prioriteService.getPrioriteReference(1)).thenReturn(Optional.of(testPriorite));
         when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser));
-        when(categorieDao.findAllById(Arrays.asList(1))).thenReturn(Arrays.asList()); // Aucune catégorie trouvée
+        when(categorieService.getCategorieReference(1)).thenReturn(Optional.empty()); // Aucune catégorie trouvée
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -190,51 +227,68 @@ class TicketServiceTest {
     @DisplayName("Résolution de ticket réussie")
     void testResolveTicket_Success() {
         // Given
-        when(utilisateurDao.findById(2)).thenReturn(Optional.of(testAdmin));
+        when(utilisateurDao.getReferenceById(2)).thenReturn(testAdmin);
+        when(ticketDao.resolveIfUnresolved(eq(1), eq(testAdmin), any(LocalDateTime.class))).thenReturn(1);
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
-        when(ticketDao.save(any(Ticket.class))).thenReturn(testTicket);
 
         // When
-        Ticket result = ticketService.resolveTicket(1, 2);
+        Ticket result = ticketService.resolveTicket(1, adminPrincipal);
 
         // Then
         assertNotNull(result);
-        verify(utilisateurDao).findById(2);
+        verify(utilisateurDao, never()).findById(anyInt());
+        verify(ticketDao).resolveIfUnresolved(eq(1), eq(testAdmin), any(LocalDateTime.class));
         verify(ticketDao).findById(1);
-        verify(ticketDao).save(testTicket);
+        verify(ticketDao, never()).save(any());
+        verify(ticketChangePublisher).publish(argThat(event -> event.type() == TicketEventDto.Type.RESOLVED
+                && event.ticketIds().equals(List.of(1))));
     }
 
     @Test
     @DisplayName("Résolution de ticket échouée - Utilisateur non admin")
     void testResolveTicket_Failure_NotAdmin() {
         // Given
-        when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser)); // Utilisateur normal
-
-        // When & Then
+        // When & Then : utilisateur normal
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            ticketService.resolveTicket(1, 1);
+            ticketService.resolveTicket(1, userPrincipal);
         });
 
         assertEquals("Seuls les administrateurs peuvent résoudre des tickets", exception.getMessage());
-        verify(ticketDao, never()).findById(anyInt());
-        verify(ticketDao, never()).save(any());
+        verify(ticketDao, never()).resolveIfUnresolved(anyInt(), any(), any());
+        verify(ticketChangePublisher, never()).publish(any());
     }
 
     @Test
     @DisplayName("Résolution de ticket échouée - Ticket déjà résolu")
     void testResolveTicket_Failure_AlreadyResolved() {
         // Given
-        testTicket.setResolu(true);
-        when(utilisateurDao.findById(2)).thenReturn(Optional.of(testAdmin));
-        when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
+        when(utilisateurDao.getReferenceById(2)).thenReturn(testAdmin);
+        when(ticketDao.resolveIfUnresolved(eq(1), eq(testAdmin), any(LocalDateTime.class))).thenReturn(0);
+        when(ticketDao.existsById(1)).thenReturn(true);
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            ticketService.resolveTicket(1, 2);
+            ticketService.resolveTicket(1, adminPrincipal);
         });
 
         assertEquals("Le ticket est déjà résolu", exception.getMessage());
-        verify(ticketDao, never()).save(any());
+        verify(ticketChangePublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Résolution de ticket échouée - Ticket inexistant")
+    void testResolveTicket_Failure_NotFound() {
+        // Given
+        when(utilisateurDao.getReferenceById(2)).thenReturn(testAdmin);
+        when(ticketDao.resolveIfUnresolved(eq(99), eq(testAdmin), any(LocalDateTime.class))).thenReturn(0);
+        when(ticketDao.existsById(99)).thenReturn(false);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            ticketService.resolveTicket(99, adminPrincipal);
+        });
+
+        assertEquals("Ticket non trouvé avec l'ID: 99", exception.getMessage());
     }
 
     @Test
@@ -245,16 +299,16 @@ class TicketServiceTest {
         testTicket.setResolveur(testAdmin);
         testTicket.setDateResolution(LocalDateTime.now());
         
-        when(utilisateurDao.findById(2)).thenReturn(Optional.of(testAdmin));
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
         when(ticketDao.save(any(Ticket.class))).thenReturn(testTicket);
 
         // When
-        Ticket result = ticketService.reopenTicket(1, 2);
+        Ticket result = ticketService.reopenTicket(1, adminPrincipal);
 
         // Then
         assertNotNull(result);
         verify(ticketDao).save(testTicket);
+        verifyNoInteractions(utilisateurDao);
     }
 
     @Test
@@ -262,48 +316,17 @@ class TicketServiceTest {
     void testReopenTicket_Failure_NotResolved() {
         // Given
         testTicket.setResolu(false); // Ticket non résolu
-        when(utilisateurDao.findById(2)).thenReturn(Optional.of(testAdmin));
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            ticketService.reopenTicket(1, 2);
+            ticketService.reopenTicket(1, adminPrincipal);
         });
 
         assertEquals("Le ticket n'est pas résolu", exception.getMessage());
         verify(ticketDao, never()).save(any());
     }
 
-    @Test
-    @DisplayName("Récupération de tous les tickets")
-    void testGetAllTickets() {
-        // Given
-        List<Ticket> expectedTickets = Arrays.asList(testTicket);
-        when(ticketDao.findAll()).thenReturn(expectedTickets);
-
-        // When
-        List<Ticket> result = ticketService.getAllTickets();
-
-        // Then
-        assertEquals(expectedTickets, result);
-        verify(ticketDao).findAll();
-    }
-
-    @Test
-    @DisplayName("Récupération des tickets non résolus")
-    void testGetUnresolvedTickets() {
-        // Given
-        List<Ticket> expectedTickets = Arrays.asList(testTicket);
-        when(ticketDao.findByResoluFalse()).thenReturn(expectedTickets);
-
-        // When
-        List<Ticket> result = ticketService.getUnresolvedTickets();
-
-        // Then
-        assertEquals(expectedTickets, result);
-        verify(ticketDao).findByResoluFalse();
-    }
-
     @Test
     @DisplayName("Récupération de ticket par ID")
     void testGetTicketById() {
@@ -329,17 +352,16 @@ class TicketServiceTest {
         updateDto.setPrioriteId(1);
 
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
-        when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser));
-        when(prioriteDao.findById(1)).thenReturn(Optional.of(testPriorite));
+        when(prioriteService.getPrioriteReference(1)).thenReturn(Optional.of(testPriorite));
         when(ticketDao.save(any(Ticket.class))).thenReturn(testTicket);
 
         // When
-        Ticket result = ticketService.updateTicket(1, updateDto, 1);
+        Ticket result = ticketService.updateTicket(1, updateDto, userPrincipal);
 
         // Then
         assertNotNull(result);
         verify(ticketDao).findById(1);
-        verify(utilisateurDao).findById(1);
+        verifyNoInteractions(utilisateurDao);
         verify(ticketDao).save(testTicket);
     }
 
@@ -347,19 +369,16 @@ class TicketServiceTest {
     @DisplayName("Mise à jour de ticket échouée - Droits insuffisants")
     void testUpdateTicket_Failure_InsufficientRights() {
         // Given
-        Utilisateur otherUser = new Utilisateur();
-        otherUser.setId(3);
-        otherUser.setAdmin(false);
+        AuthenticatedUser otherUser = new AuthenticatedUser(3, false);
 
         CreateTicketDto updateDto = new CreateTicketDto();
         updateDto.setTitre("Titre modifié");
 
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
-        when(utilisateurDao.findById(3)).thenReturn(Optional.of(otherUser));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            ticketService.updateTicket(1, updateDto, 3);
+            ticketService.updateTicket(1, updateDto, otherUser);
         });
 
         assertEquals("Vous n'avez pas le droit de modifier ce ticket", exception.getMessage());
@@ -370,14 +389,13 @@ class TicketServiceTest {
     @DisplayName("Suppression de ticket réussie")
     void testDeleteTicket_Success() {
         // Given
-        when(utilisateurDao.findById(2)).thenReturn(Optional.of(testAdmin));
         when(ticketDao.findById(1)).thenReturn(Optional.of(testTicket));
 
         // When
-        ticketService.deleteTicket(1, 2);
+        ticketService.deleteTicket(1, adminPrincipal);
 
         // Then
-        verify(utilisateurDao).findById(2);
+        verifyNoInteractions(utilisateurDao);
         verify(ticketDao).findById(1);
         verify(ticketDao).delete(testTicket);
     }
@@ -386,11 +404,9 @@ class TicketServiceTest {
     @DisplayName("Suppression de ticket échouée - Non admin")
     void testDeleteTicket_Failure_NotAdmin() {
         // Given
-        when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser));
-
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            ticketService.deleteTicket(1, 1);
+            ticketService.deleteTicket(1, userPrincipal);
         });
 
         assertEquals("Seuls les administrateurs peuvent supprimer des tickets", exception.getMessage());
@@ -402,48 +418,38 @@ class TicketServiceTest {
     void testSearchTickets() {
         // Given
         String keyword = "test";
-        List<Ticket> expectedTickets = Arrays.asList(testTicket);
-        when(ticketDao.searchByTitreOrDescription(keyword)).thenReturn(expectedTickets);
+        TicketBasicDto first = new TicketBasicDto(1, "Premier", "Description", false,
+                testTicket.getDateCreation(), null, 1, "Haute");
+        TicketBasicDto second = new TicketBasicDto(2, "Second", "Description", false,
+                testTicket.getDateCreation(), null, 1, "Haute");
+        when(ticketSearchService.search(keyword, 0, 2))
+                .thenReturn(new TicketSearchResultDto(Arrays.asList(2, 1), 3));
+        when(ticketDao.findBasicByIdIn(Arrays.asList(2, 1))).thenReturn(Arrays.asList(first, second));
 
         // When
-        List<Ticket> result = ticketService.searchTickets(keyword);
+        TicketPageDto page = ticketService.searchTicketsPage(keyword, null, 2);
 
         // Then
-        assertEquals(expectedTickets, result);
-        verify(ticketDao).searchByTitreOrDescription(keyword);
+        assertEquals(Arrays.asList(second, first), page.getTickets());
+        assertEquals(3L, page.getTotalCount());
+        assertEquals("2", page.getNextCursor());
+        verify(ticketSearchService).search(keyword, 0, 2);
     }
 
     @Test
     @DisplayName("Recherche de tickets - Mot-clé vide")
     void testSearchTickets_EmptyKeyword() {
         // Given
-        List<Ticket> expectedTickets = Arrays.asList(testTicket);
-        when(ticketDao.findAll()).thenReturn(expectedTickets);
+        when(ticketDao.findPageBefore(any(LocalDateTime.class), eq(Integer.MAX_VALUE), eq(Limit.of(11))))
+                .thenReturn(List.of());
 
         // When
-        List<Ticket> result = ticketService.searchTickets("");
+        TicketPageDto page = ticketService.searchTicketsPage("", null, 10);
 
         // Then
-        assertEquals(expectedTickets, result);
-        verify(ticketDao).findAll();
-        verify(ticketDao, never()).searchByTitreOrDescription(anyString());
-    }
-
-    @Test
-    @DisplayName("Récupération tickets par utilisateur")
-    void testGetTicketsByUser() {
-        // Given
-        List<Ticket> expectedTickets = Arrays.asList(testTicket);
-        when(utilisateurDao.findById(1)).thenReturn(Optional.of(testUser));
-        when(ticketDao.findBySoumetteur(testUser)).thenReturn(expectedTickets);
-
-        // When
-        List<Ticket> result = ticketService.getTicketsByUser(1);
-
-        // Then
-        assertEquals(expectedTickets, result);
-        verify(utilisateurDao).findById(1);
-        verify(ticketDao).findBySoumetteur(testUser);
+        assertTrue(page.getTickets().isEmpty());
+        verify(ticketDao).findPageBefore(any(LocalDateTime.class), eq(Integer.MAX_VALUE), eq(Limit.of(11)));
+        verify(ticketSearchService, never()).search(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -494,48 +500,75 @@ class TicketServiceTest {
     }
 
     @Test
-    @DisplayName("Comptage des tickets non résolus")
-    void testGetUnresolvedTicketCount() {
+    @DisplayName("Pagination des tickets - Curseur vers la page suivante")
+    void testGetTicketsPage_ReturnsNextCursor() {
         // Given
-        when(ticketDao.countByResoluFalse()).thenReturn(5L);
+        TicketBasicDto newest = new TicketBasicDto(1, "Récent", "Description", false,
+                testTicket.getDateCreation(), null, 1, "Haute");
+        TicketBasicDto older = new TicketBasicDto(2, "Ancien", "Description", false,
+                testTicket.getDateCreation().minusHours(1), null, 1, "Haute");
+        when(ticketDao.findPageBefore(any(LocalDateTime.class), eq(Integer.MAX_VALUE), eq(Limit.of(2))))
+                .thenReturn(Arrays.asList(newest, older));
+        when(ticketStatsService.getTotalTicketCount()).thenReturn(2L);
 
         // When
-        long result = ticketService.getUnresolvedTicketCount();
+        TicketPageDto page = ticketService.getTicketsPage(null, 1);
 
         // Then
-        assertEquals(5L, result);
-        verify(ticketDao).countByResoluFalse();
+        assertEquals(List.of(newest), page.getTickets());
+        assertEquals(2L, page.getTotalCount());
+        assertTrue(page.hasNext());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(newest.getDateCreation(), next.getDateCreation());
+        assertEquals(newest.getId(), next.getId());
+        verify(ticketDao, never()).count();
     }
 
     @Test
-    @DisplayName("Comptage des tickets résolus")
-    void testGetResolvedTicketCount() {
+    @DisplayName("Pagination des tickets - Curseur invalide")
+    void testGetTicketsPage_InvalidCursor() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getTicketsPage("pas-un-curseur", 10));
+        verify(ticketDao, never()).findPageBefore(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Tickets par priorité - Taille de page bornée et tri par défaut")
+    void testGetTicketsByPriorite_BoundsPageSize() {
         // Given
-        when(ticketDao.countByResoluTrue()).thenReturn(3L);
+        when(prioriteDao.findById(1)).thenReturn(Optional.of(testPriorite));
+        when(ticketDao.findByPriorite(eq(testPriorite), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(testTicket)));
 
         // When
-        long result = ticketService.getResolvedTicketCount();
+        ticketService.getTicketsByPriorite(1, 3, 100000, null);
 
         // Then
-        assertEquals(3L, result);
-        verify(ticketDao).countByResoluTrue();
+        verify(ticketDao).findByPriorite(testPriorite, PageRequest.of(3, TicketService.MAX_PAGE_SIZE,
+                Sort.by(Sort.Order.desc("dateCreation"), Sort.Order.desc("id"))));
     }
 
     @Test
-    @DisplayName("Statistiques tickets par priorité")
-    void testGetTicketStatsByPriorite() {
+    @DisplayName("Tickets résolus - Tri demandé départagé par l'ID")
+    void testGetResolvedTickets_SortWithIdTieBreaker() {
         // Given
-        List<Object[]> expectedStats = Arrays.asList(
-            new Object[]{"Haute", 5L},
-            new Object[]{"Normale", 3L}
-        );
-        when(ticketDao.getTicketCountByPriorite()).thenReturn(expectedStats);
+        when(ticketDao.findByResoluTrue(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
 
         // When
-        List<Object[]> result = ticketService.getTicketStatsByPriorite();
+        ticketService.getResolvedTickets(0, 20, "dateResolution,asc");
 
         // Then
-        assertEquals(expectedStats, result);
-        verify(ticketDao).getTicketCountByPriorite();
+        verify(ticketDao).findByResoluTrue(PageRequest.of(0, 20,
+                Sort.by(Sort.Order.asc("dateResolution"), Sort.Order.asc("id"))));
+    }
+
+    @Test
+    @DisplayName("Tickets résolus - Tri sur une propriété non autorisée")
+    void testGetResolvedTickets_InvalidSort() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getResolvedTickets(0, 20, "description"));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getResolvedTickets(0, 20, "id,sideways"));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getResolvedTickets(-1, 20, null));
+        verify(ticketDao, never()).findByResoluTrue(any(Pageable.class));
     }
-}
\ No newline at end of file
+}
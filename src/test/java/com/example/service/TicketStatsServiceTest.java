@@ -0,0 +1,188 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.dto.TicketEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour TicketStatsService (l'écouteur des modifications est
+ * appelé directement, comme après un commit)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - TicketStatsService")
+class TicketStatsServiceTest {
+
+    @Mock
+    private TicketDao ticketDao;
+
+    @Mock
+    private PrioriteService prioriteService;
+
+    @Mock
+    private CategorieService categorieService;
+
+    @InjectMocks
+    private TicketStatsService ticketStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(ticketDao.count()).thenReturn(3L);
+        when(ticketDao.countByResoluTrue()).thenReturn(1L);
+        ticketStatsService.reconcile();
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Compteurs initialisés depuis la base")
+    void testReconcile() {
+        // Then
+        assertEquals(3, ticketStatsService.getTotalTicketCount());
+        assertEquals(1, ticketStatsService.getResolvedTicketCount());
+        assertEquals(2, ticketStatsService.getUnresolvedTicketCount());
+    }
+
+    @Test
+    @DisplayName("Par priorité et par catégorie - Lus dans les compteurs des données de référence")
+    void testStatsByReference_ReadFromCounters() {
+        // Given
+        when(prioriteService.getPrioriteStats())
+                .thenReturn(List.of(new Object[] { "Haute", 3L }, new Object[] { "Basse", 0L }));
+        when(categorieService.getCategorieStats())
+                .thenReturn(List.of(new Object[] { "Bug", 2L }, new Object[] { "Évolution", 0L }));
+
+        // Then
+        assertStats(List.of("Haute", 3L, "Basse", 0L), ticketStatsService.getPrioriteStats());
+        assertStats(List.of("Haute", 3L), ticketStatsService.getTicketStatsByPriorite());
+        assertStats(List.of("Bug", 2L, "Évolution", 0L), ticketStatsService.getCategorieStats());
+    }
+
+    @Test
+    @DisplayName("Cycle de vie - Création, résolution, réouverture, modification et suppression")
+    void testLifecycle() {
+        // When
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.CREATED, false));
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.RESOLVED, true));
+
+        // Then
+        assertEquals(4, ticketStatsService.getTotalTicketCount());
+        assertEquals(2, ticketStatsService.getResolvedTicketCount());
+
+        // When
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.REOPENED, false));
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.UPDATED, false));
+
+        // Then
+        assertEquals(1, ticketStatsService.getResolvedTicketCount());
+
+        // When
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.DELETED, false));
+
+        // Then
+        assertEquals(3, ticketStatsService.getTotalTicketCount());
+        assertEquals(2, ticketStatsService.getUnresolvedTicketCount());
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Les écarts sont corrigés")
+    void testReconcile_FixesDrift() {
+        // Given
+        ticketStatsService.onTicketsChanged(event(TicketEventDto.Type.CREATED, false));
+        when(ticketDao.count()).thenReturn(10L);
+
+        // When
+        ticketStatsService.reconcile();
+
+        // Then
+        assertEquals(10, ticketStatsService.getTotalTicketCount());
+        verify(ticketDao, times(2)).countByResoluTrue();
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Une modification validée pendant la lecture n'est pas comptée deux fois")
+    void testReconcile_RetriesWhenChangedDuringRead() {
+        // Given : une création validée entre les deux COUNT ; la lecture
+        // suivante la voit déjà
+        when(ticketDao.count()).thenReturn(3L, 4L);
+        when(ticketDao.countByResoluTrue()).thenAnswer(invocation -> {
+            commit(event(TicketEventDto.Type.CREATED, false));
+            return 1L;
+        }).thenReturn(1L);
+
+        // When
+        ticketStatsService.reconcile();
+
+        // Then
+        assertEquals(4, ticketStatsService.getTotalTicketCount());
+        assertEquals(1, ticketStatsService.getResolvedTicketCount());
+        verify(ticketDao, times(3)).count();
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Reportée tant qu'une modification est en cours")
+    void testReconcile_PostponedWhileChangePending() {
+        // Given : une création publiée, transaction pas encore terminée
+        TicketChangeEvent created = event(TicketEventDto.Type.CREATED, false);
+        ticketStatsService.onTicketsChanging(created);
+        when(ticketDao.count()).thenReturn(4L);
+
+        // When
+        ticketStatsService.reconcile();
+
+        // Then : ni lue, ni comptée deux fois une fois validée
+        verify(ticketDao, times(1)).count();
+        ticketStatsService.onTicketsChanged(created);
+        ticketStatsService.onTicketsSettled(created);
+        assertEquals(4, ticketStatsService.getTotalTicketCount());
+
+        // When
+        ticketStatsService.reconcile();
+
+        // Then
+        assertEquals(4, ticketStatsService.getTotalTicketCount());
+        verify(ticketDao, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Une modification annulée ne la bloque pas")
+    void testReconcile_AfterRollback() {
+        // Given : une création publiée puis annulée
+        TicketChangeEvent created = event(TicketEventDto.Type.CREATED, false);
+        ticketStatsService.onTicketsChanging(created);
+        ticketStatsService.onTicketsSettled(created);
+
+        // When
+        ticketStatsService.reconcile();
+
+        // Then
+        assertEquals(3, ticketStatsService.getTotalTicketCount());
+        verify(ticketDao, times(2)).count();
+    }
+
+    private void commit(TicketChangeEvent event) {
+        ticketStatsService.onTicketsChanging(event);
+        ticketStatsService.onTicketsChanged(event);
+        ticketStatsService.onTicketsSettled(event);
+    }
+
+    private static TicketChangeEvent event(TicketEventDto.Type type, boolean resolu) {
+        return new TicketChangeEvent(type, List.of(new TicketChangeEvent.TicketState(42, null, null, null, resolu)),
+                new ReferenceUsageService.CounterChanges());
+    }
+
+    private static void assertStats(List<Object> expected, List<Object[]> stats) {
+        List<Object> flattened = new ArrayList<>();
+        stats.forEach(row -> flattened.addAll(List.of(row)));
+        assertEquals(expected, flattened);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.service;
+
+import com.example.dao.TicketDao;
+import com.example.dto.TicketEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour UnresolvedTicketQueue (l'écouteur des modifications est
+ * appelé directement, comme après un commit)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - UnresolvedTicketQueue")
+class UnresolvedTicketQueueTest {
+
+    private static final LocalDateTime JOUR = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Mock
+    private TicketDao ticketDao;
+
+    @InjectMocks
+    private UnresolvedTicketQueue unresolvedTicketQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(ticketDao.findUnresolvedIdsAndDates()).thenReturn(List.of(
+                new Object[] { 3, JOUR.plusDays(2) },
+                new Object[] { 1, JOUR },
+                new Object[] { 2, JOUR.plusDays(1) }));
+        unresolvedTicketQueue.reconcile();
+    }
+
+    @Test
+    @DisplayName("Réconciliation - File triée par date de création")
+    void testReconcile() {
+        // Then
+        assertTrue(unresolvedTicketQueue.isLoaded());
+        assertEquals(List.of(1, 2, 3), unresolvedTicketQueue.getOldestTicketIds(10));
+        assertEquals(List.of(1, 2), unresolvedTicketQueue.getOldestTicketIds(2));
+    }
+
+    @Test
+    @DisplayName("Mise à jour - Création, résolution et réouverture")
+    void testUpdates() {
+        // When
+        unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.CREATED,
+                state(4, JOUR.minusDays(1), false)));
+        unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.RESOLVED, state(1, JOUR, true),
+                state(3, JOUR.plusDays(2), true)));
+
+        // Then
+        assertEquals(List.of(4, 2), unresolvedTicketQueue.getOldestTicketIds(10));
+
+        // When
+        unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.REOPENED, state(1, JOUR, false)));
+        unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.REOPENED, state(1, JOUR, false)));
+
+        // Then
+        assertEquals(List.of(4, 1, 2), unresolvedTicketQueue.getOldestTicketIds(10));
+        assertEquals(3, unresolvedTicketQueue.size());
+    }
+
+    @Test
+    @DisplayName("Mise à jour - Un ticket créé résolu n'entre pas dans la file")
+    void testCreatedResolved() {
+        // When
+        unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.CREATED,
+                state(5, JOUR.minusDays(1), true)));
+
+        // Then
+        assertEquals(List.of(1, 2, 3), unresolvedTicketQueue.getOldestTicketIds(10));
+    }
+
+    @Test
+    @DisplayName("Réconciliation - Les modifications reçues pendant la lecture sont rejouées")
+    void testReconcile_ReplaysConcurrentChanges() {
+        // Given : une résolution et une création validées pendant la lecture,
+        // après que la base a été lue
+        when(ticketDao.findUnresolvedIdsAndDates()).thenAnswer(invocation -> {
+            unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.RESOLVED, state(1, JOUR, true)));
+            unresolvedTicketQueue.onTicketsChanged(event(TicketEventDto.Type.CREATED,
+                    state(4, JOUR.plusDays(3), false)));
+            return List.of(new Object[] { 1, JOUR }, new Object[] { 2, JOUR.plusDays(1) });
+        });
+
+        // When
+        unresolvedTicketQueue.reconcile();
+
+        // Then
+        assertEquals(List.of(2, 4), unresolvedTicketQueue.getOldestTicketIds(10));
+    }
+
+    private static TicketChangeEvent.TicketState state(Integer id, LocalDateTime dateCreation, boolean resolu) {
+        return new TicketChangeEvent.TicketState(id, dateCreation, null, null, resolu);
+    }
+
+    private static TicketChangeEvent event(TicketEventDto.Type type, TicketChangeEvent.TicketState... tickets) {
+        return new TicketChangeEvent(type, List.of(tickets), new ReferenceUsageService.CounterChanges());
+    }
+}